@@ -46,18 +46,18 @@ public class GenerateParserScript {
 				System.exit(1);
 		}
 
-		// Update parserNN.rsc and readableNames.props
+		// Update parser.rsc, which bundles the intermediate parserNN.rsc and readableNames.props
 		File javadclFile = new File(grammarDir, "javadcl.java");
 		File javahdrFile = new File(grammarDir, "javahdr.java");
 		Parser.buildFilesFromLPG(javadclFile.toString(), javahdrFile.toString());
-		for (int i = 1; i <= 24; i++) {
-			String filename = "parser"+i+".rsc";
-			Files.move(new File(filename).toPath(), new File(parserDir, filename).toPath(), StandardCopyOption.REPLACE_EXISTING);
-		}
 		{
-			String filename = "readableNames.props";
+			String filename = "parser.rsc";
 			Files.move(new File(filename).toPath(), new File(parserDir, filename).toPath(), StandardCopyOption.REPLACE_EXISTING);
 		}
+		for (int i = 1; i <= 24; i++) {
+			Files.delete(new File("parser"+i+".rsc").toPath());
+		}
+		Files.delete(new File("readableNames.props").toPath());
 
 		// Update terminalToken.java
 		File javasymFile = new File(grammarDir, "javasym.java");
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,7 +37,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -120,6 +119,11 @@ public class ClassFile implements TypeConstants, TypeIds {
 
 	public Set<TypeBinding> visitedTypes;
 
+	// the locals covering each frame position of the method being traversed, see computeFrameLocals(int[])
+	private int[] frameLocalsPositions;
+	private int[] frameLocalsOffsets;
+	private int[] frameLocalsIndexes;
+
 	public static final int INITIAL_CONTENTS_SIZE = 400;
 	public static final int INITIAL_HEADER_SIZE = 1500;
 	public static final int INNER_CLASSES_SIZE = 5;
@@ -2443,7 +2447,7 @@ public class ClassFile implements TypeConstants, TypeIds {
 	 * @return char[]
 	 */
 	public char[] fileName() {
-		return this.constantPool.UTF8Cache.returnKeyFor(2);
+		return this.constantPool.cache.keyFor(ConstantPoolCache.UTF8, 2);
 	}
 
 	private void generateAnnotation(Annotation annotation, int currentOffset) {
@@ -5111,8 +5115,7 @@ public class ClassFile implements TypeConstants, TypeIds {
 		StackMapFrameCodeStream stackMapFrameCodeStream = (StackMapFrameCodeStream) this.codeStream;
 		stackMapFrameCodeStream.removeFramePosition(code_length);
 		if (stackMapFrameCodeStream.hasFramePositions()) {
-			Map<Integer, StackMapFrame> frames = new HashMap<>();
-			List<StackMapFrame> realFrames = traverse(isClinit ? null: methodBinding, max_locals, this.contents, codeAttributeOffset + 14, code_length, frames, isClinit, scope);
+			List<StackMapFrame> realFrames = traverse(isClinit ? null: methodBinding, max_locals, this.contents, codeAttributeOffset + 14, code_length, isClinit, scope);
 			int numberOfFrames = realFrames.size();
 			if (numberOfFrames > 1) {
 				int stackMapTableAttributeOffset = localContentsOffset;
@@ -5892,6 +5895,55 @@ public class ClassFile implements TypeConstants, TypeIds {
 		}
 	}
 
+	/**
+	 * Records, for each of the given frame positions, the locals whose initialization ranges cover it. A single pass over
+	 * the ranges replaces walking all the locals of the method for each frame, which is quadratic in huge methods.
+	 */
+	private void computeFrameLocals(int[] framePositions) {
+		int positionsLength = framePositions.length;
+		int[] offsets = this.frameLocalsOffsets;
+		if (offsets == null || offsets.length <= positionsLength) {
+			this.frameLocalsOffsets = offsets = new int[positionsLength + 16];
+		} else {
+			Arrays.fill(offsets, 0, positionsLength + 1, 0);
+		}
+		LocalVariableBinding[] locals = this.codeStream.locals;
+		int localsCount = this.codeStream.allLocalsCounter;
+		int[] indexes = null;
+		// count the locals of each position, then record them in the order of the locals (first one wins a slot)
+		for (int pass = 0; pass < 2; pass++) {
+			for (int i = 0; i < localsCount; i++) {
+				LocalVariableBinding localVariable = locals[i];
+				if (localVariable == null) continue;
+				for (int j = 0; j < localVariable.initializationCount; j++) {
+					int startPC = localVariable.initializationPCs[j << 1];
+					int endPC = localVariable.initializationPCs[(j << 1) + 1];
+					int index = Arrays.binarySearch(framePositions, startPC);
+					for (index = index < 0 ? -index - 1 : index; index < positionsLength && framePositions[index] < endPC; index++) {
+						if (indexes == null) {
+							offsets[index + 1]++;
+						} else {
+							indexes[offsets[index]++] = i;
+						}
+					}
+				}
+			}
+			if (indexes == null) {
+				for (int i = 0; i < positionsLength; i++) {
+					offsets[i + 1] += offsets[i];
+				}
+				indexes = this.frameLocalsIndexes;
+				if (indexes == null || indexes.length < offsets[positionsLength]) {
+					this.frameLocalsIndexes = indexes = new int[offsets[positionsLength] + 16];
+				}
+			}
+		}
+		// offsets were moved to the end of their position while recording
+		System.arraycopy(offsets, 0, offsets, 1, positionsLength);
+		offsets[0] = 0;
+		this.frameLocalsPositions = framePositions;
+	}
+
 	private void initializeLocals(boolean isStatic, int currentPC, StackMapFrame currentFrame) {
 		VerificationTypeInfo[] locals = currentFrame.locals;
 		int localsLength = locals.length;
@@ -5903,6 +5955,16 @@ public class ClassFile implements TypeConstants, TypeIds {
 		for (; i < localsLength; i++) {
 			locals[i] = null;
 		}
+		int positionIndex = Arrays.binarySearch(this.frameLocalsPositions, currentPC);
+		if (positionIndex >= 0) {
+			for (int j = this.frameLocalsOffsets[positionIndex], max = this.frameLocalsOffsets[positionIndex + 1]; j < max; j++) {
+				LocalVariableBinding localVariable = this.codeStream.locals[this.frameLocalsIndexes[j]];
+				if (locals[localVariable.resolvedPosition] == null) {
+					locals[localVariable.resolvedPosition] = new VerificationTypeInfo(localVariable.type);
+				}
+			}
+			return;
+		}
 		i = 0;
 		locals: for (int max = this.codeStream.allLocalsCounter; i < max; i++) {
 			LocalVariableBinding localVariable = this.codeStream.locals[i];
@@ -6130,23 +6192,16 @@ public class ClassFile implements TypeConstants, TypeIds {
 		this.contentsOffset += 2;
 	}
 
-	private List<StackMapFrame> filterFakeFrames(Set<Integer> realJumpTargets, Map<Integer, StackMapFrame> frames, int codeLength) {
+	private List<StackMapFrame> filterFakeFrames(boolean[] realJumpTargets, StackMapFrame[] frames, int codeLength) {
 		// no more frame to generate
-		// filter out "fake" frames
-		realJumpTargets.remove(Integer.valueOf(codeLength));
+		// filter out "fake" frames, the ones left are sorted by pc
 		List<StackMapFrame> result = new ArrayList<>();
-		for (Integer jumpTarget : realJumpTargets) {
-			StackMapFrame frame = frames.get(jumpTarget);
-			if (frame != null) {
+		for (int i = 0; i <= codeLength; i++) { // pc -1 to codeLength - 1, a frame at codeLength is fake
+			StackMapFrame frame = frames[i];
+			if (realJumpTargets[i] && frame != null) {
 				result.add(frame);
 			}
 		}
-		Collections.sort(result, new Comparator<StackMapFrame>() {
-			@Override
-			public int compare(StackMapFrame frame, StackMapFrame frame2) {
-				return frame.pc - frame2.pc;
-			}
-		});
 		return result;
 	}
 
@@ -6370,10 +6425,11 @@ public class ClassFile implements TypeConstants, TypeIds {
 			byte[] bytecodes,
 			int codeOffset,
 			int codeLength,
-			Map<Integer, StackMapFrame> frames,
 			boolean isClinit,
 			Scope scope) {
-		Set<Integer> realJumpTarget = new HashSet<>();
+		// frames and real jump targets are indexed by pc + 1, the initial frame being at pc -1
+		StackMapFrame[] frames = new StackMapFrame[codeLength + 2];
+		boolean[] realJumpTarget = new boolean[codeLength + 2];
 
 		StackMapFrameCodeStream stackMapFrameCodeStream = (StackMapFrameCodeStream) this.codeStream;
 		int[] framePositions = stackMapFrameCodeStream.getFramePositions();
@@ -6401,6 +6457,7 @@ public class ClassFile implements TypeConstants, TypeIds {
 		if (!isClinit) {
 			initializeDefaultLocals(frame, methodBinding, maxLocals, codeLength);
 		}
+		computeFrameLocals(framePositions); // once all locals are recorded
 		frame.pc = -1;
 		add(frames, frame.duplicate(), scope);
 		addRealJumpTarget(realJumpTarget, -1);
@@ -6435,7 +6492,7 @@ public class ClassFile implements TypeConstants, TypeIds {
 			}
 			if (currentFramePosition == currentPC) {
 				// need to build a new frame and create a stack map attribute entry
-				StackMapFrame currentFrame = frames.get(Integer.valueOf(currentPC));
+				StackMapFrame currentFrame = frames[currentPC + 1];
 				if (currentFrame == null) {
 					currentFrame = createNewFrame(currentPC, frame, isClinit, methodBinding);
 					add(frames, currentFrame, scope);
@@ -7462,23 +7519,22 @@ public class ClassFile implements TypeConstants, TypeIds {
 		return dimensions;
 	}
 
-	private void addRealJumpTarget(Set<Integer> realJumpTarget, int pc) {
-		realJumpTarget.add(Integer.valueOf(pc));
+	private void addRealJumpTarget(boolean[] realJumpTarget, int pc) {
+		realJumpTarget[pc + 1] = true;
 	}
 
-	private void addRealJumpTarget(Set<Integer> realJumpTarget, int pc, Map<Integer, StackMapFrame> frames, StackMapFrame frame, Scope scope) {
-		realJumpTarget.add(Integer.valueOf(pc));
+	private void addRealJumpTarget(boolean[] realJumpTarget, int pc, StackMapFrame[] frames, StackMapFrame frame, Scope scope) {
+		realJumpTarget[pc + 1] = true;
 		add(frames, frame, scope);
 	}
 
-	private void add(Map<Integer, StackMapFrame> frames, StackMapFrame frame, Scope scope) {
-		Integer key = Integer.valueOf(frame.pc);
-		StackMapFrame existingFrame = frames.get(key);
+	private void add(StackMapFrame[] frames, StackMapFrame frame, Scope scope) {
+		StackMapFrame existingFrame = frames[frame.pc + 1];
 		if(existingFrame == null) {
-			frames.put(key, frame);
+			frames[frame.pc + 1] = frame;
 		} else {
 			// we need to merge
-			frames.put(key, existingFrame.merge(frame, scope));
+			frames[frame.pc + 1] = existingFrame.merge(frame, scope);
 		}
 	}
 
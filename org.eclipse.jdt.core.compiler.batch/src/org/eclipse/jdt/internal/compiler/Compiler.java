@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationProgress;
@@ -35,6 +36,7 @@ import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
 import org.eclipse.jdt.internal.compiler.env.ISourceType;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats.UnitStats;
 import org.eclipse.jdt.internal.compiler.impl.ITypeRequestor;
 import org.eclipse.jdt.internal.compiler.impl.ReferenceContext;
 import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
@@ -79,6 +81,12 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	/*
+	 * Set when the units are shared with other compilers, each with a lookup environment of its own: answers whether
+	 * this compiler processes the given unit. The other units only contribute the bindings of their types, they are not
+	 * resolved, analyzed nor generated, and their results are left to the compilers which process them.
+	 */
+	public Predicate<CompilationUnitDeclaration> unitClaim;
 
 	// number of initial units parsed at once (-1: none)
 
@@ -179,6 +187,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 //			new Exception("TRACE BINARY").printStackTrace(System.out);
 //		    System.out.println();
 		}
+		this.stats.binaryTypeCount++;
 		LookupEnvironment env = packageBinding.environment;
 		env.createBinaryTypeFrom(binaryType, packageBinding, accessRestriction);
 	}
@@ -370,7 +379,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		}
 	}
 
-	private void sortModuleDeclarationsFirst(ICompilationUnit[] sourceUnits) {
+	public static void sortModuleDeclarationsFirst(ICompilationUnit[] sourceUnits) {
 		Arrays.sort(sourceUnits, (u1, u2) -> {
 			char[] fn1 = u1.getFileName();
 			char[] fn2 = u2.getFileName();
@@ -444,6 +453,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					unit = this.unitsToProcess[i];
 					if (unit.compilationResult != null && unit.compilationResult.hasBeenAccepted)
 						continue;
+					if (!claims(unit))
+						continue;
 					reportProgress(Messages.bind(Messages.compilation_processing, new String(unit.getFileName())));
 					try {
 						if (this.options.verbose)
@@ -537,6 +548,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		}
 	}
 
+	boolean claims(CompilationUnitDeclaration unit) {
+		return this.unitClaim == null || this.unitClaim.test(unit);
+	}
+
 	public synchronized CompilationUnitDeclaration getUnitToProcess(int next) {
 		if (next < this.totalUnits) {
 			CompilationUnitDeclaration unit = this.unitsToProcess[next];
@@ -730,9 +745,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	protected void internalBeginToCompile(ICompilationUnit[] sourceUnits, int maxUnits) {
 		abortIfVersionNotAllowed(sourceUnits,maxUnits);
 		abortIfPreviewNotAllowed(sourceUnits,maxUnits);
-		if (!this.useSingleThread)
+		boolean parseAhead = !this.useSingleThread && maxUnits > 1 && ParseManager.canParseAhead(this);
+		if (!this.useSingleThread && !parseAhead)
 			this.parser.readManager = new ReadManager(sourceUnits, maxUnits);
-		try {
+		try (ParseManager parseManager = parseAhead ? new ParseManager(this, sourceUnits, maxUnits) : null) {
 			// Switch the current policy and compilation result for this unit to the requested one.
 			for (int i = 0; i < maxUnits; i++) {
 				CompilationResult unitResult = null;
@@ -748,13 +764,19 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					// diet parsing for large collection of units
 					CompilationUnitDeclaration parsedUnit;
-					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
 					long parseStart = System.currentTimeMillis();
-					if (this.totalUnits < this.parseThreshold) {
-						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
+					if (parseManager != null) {
+						// already diet parsed (or being parsed) by a worker
+						parsedUnit = parseManager.getParsedUnit(i);
+						unitResult = parsedUnit.compilationResult;
 					} else {
-						unitResult.cacheSource();
-						parsedUnit = this.parser.dietParse(sourceUnits[i], unitResult);
+						unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
+						if (this.totalUnits < this.parseThreshold) {
+							parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
+						} else {
+							unitResult.cacheSource();
+							parsedUnit = this.parser.dietParse(sourceUnits[i], unitResult);
+						}
 					}
 					long resolveStart = System.currentTimeMillis();
 					this.stats.parseTime += resolveStart - parseStart;
@@ -777,7 +799,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					sourceUnits[i] = null; // no longer hold onto the unit
 				}
 			}
-		} finally { // especially on AbortCompilation
+		} finally { // especially on AbortCompilation (the parse manager is closed first)
 			if (this.parser.readManager != null) {
 				this.parser.readManager.shutdown();
 				this.parser.readManager = null;
@@ -792,12 +814,15 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		UnitStats unitStats = this.stats.unitStats == null ? null : new UnitStats(unit.getFileName());
+		int binaryTypeCount = this.stats.binaryTypeCount;
 		long parseStart = System.currentTimeMillis();
 
 		this.parser.getMethodBodies(unit);
 
 		long resolveStart = System.currentTimeMillis();
 		this.stats.parseTime += resolveStart - parseStart;
+		if (unitStats != null) unitStats.parseTime = unitStats.lap();
 
 		// fault in fields & methods
 		if (unit.scope != null)
@@ -812,12 +837,14 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 		long analyzeStart = System.currentTimeMillis();
 		this.stats.resolveTime += analyzeStart - resolveStart;
+		if (unitStats != null) unitStats.resolveTime = unitStats.lap();
 
 		//No need of analysis or generation of code if statements are not required
 		if (!this.options.ignoreMethodBodies) unit.analyseCode(); // flow analysis
 
 		long generateStart = System.currentTimeMillis();
 		this.stats.analyzeTime += generateStart - analyzeStart;
+		if (unitStats != null) unitStats.analyzeTime = unitStats.lap();
 
 		if (!this.options.ignoreMethodBodies) unit.generateCode(); // code generation
 
@@ -829,6 +856,12 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		unit.finalizeProblems();
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		if (unitStats != null) {
+			unitStats.generateTime = unitStats.lap();
+			unitStats.binaryTypeCount = this.stats.binaryTypeCount - binaryTypeCount;
+			unitStats.problemCount = unit.compilationResult.problemCount;
+			this.stats.addUnitStats(unitStats);
+		}
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
@@ -920,6 +953,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	}
 
 	public void reset() {
+		this.stats.inferenceCacheHits += this.lookupEnvironment.inferenceResultCache.hits;
+		this.stats.inferenceCacheMisses += this.lookupEnvironment.inferenceResultCache.misses;
+		this.stats.methodLookupCacheHits += this.lookupEnvironment.methodLookupCache.hits;
+		this.stats.methodLookupCacheMisses += this.lookupEnvironment.methodLookupCache.misses;
 		this.lookupEnvironment.reset();
 		this.parser.scanner.source = null;
 		this.unitsToProcess = null;
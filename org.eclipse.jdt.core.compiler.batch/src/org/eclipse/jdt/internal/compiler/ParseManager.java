@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Diet parses a list of ICompilationUnit ahead (before actually needed) on worker threads. Every worker uses a parser
+ * and problem reporter of its own, the parsed units are handed back in the order of the initial supplied files.
+ * <p>
+ * Parsing ahead is only enabled with the system property <code>jdt.compiler.parseAhead=true</code>, otherwise the
+ * compiler reads the units ahead with a {@link ReadManager} and parses them itself.
+ * </p>
+ **/
+public class ParseManager implements AutoCloseable {
+	private static final int PARSE_AHEAD = 64; // do not waste memory by keeping too many parsed units waiting
+	/** Leave 1 thread for the compiler which builds the type bindings of the parsed units. **/
+	private static final ExecutorService PARSER_SERVICE = createExecutor(Math.max(0, Math.min(PARSE_AHEAD, Runtime.getRuntime().availableProcessors() - 1)));
+
+	private static ExecutorService createExecutor(int threadCount) {
+		if (threadCount <= 0)
+			return null;
+		else {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 5, TimeUnit.MINUTES,
+					new LinkedBlockingQueue<>(), r -> {
+						Thread t = new Thread(r, "Compiler Source File Parser"); //$NON-NLS-1$
+						t.setDaemon(true);
+						return t;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+
+	private final Compiler compiler;
+	private final ICompilationUnit[] units;
+	private final int length;
+	private final Future<CompilationUnitDeclaration>[] parsedUnits;
+	private final Queue<Parser> parsers = new ConcurrentLinkedQueue<>();
+	private int nextUnitToParse;
+
+	/**
+	 * Answers whether the given compiler can have its units diet parsed by a ParseManager, i.e. whether parsing ahead
+	 * is enabled, worker threads are available and the compiler uses a plain {@link Parser} which diet parses every unit.
+	 */
+	public static boolean canParseAhead(Compiler compiler) {
+		return Boolean.getBoolean("jdt.compiler.parseAhead") //$NON-NLS-1$
+				&& PARSER_SERVICE != null
+				&& compiler.parser != null
+				&& compiler.parser.getClass() == Parser.class
+				&& compiler.parseThreshold <= compiler.totalUnits;
+	}
+
+	@SuppressWarnings("unchecked")
+	public ParseManager(Compiler compiler, ICompilationUnit[] files, int length) {
+		this.compiler = compiler;
+		this.units = files;
+		this.length = length;
+		this.parsedUnits = new Future[length];
+		while (this.nextUnitToParse < Math.min(length, PARSE_AHEAD)) {
+			queueNextParseAhead();
+		}
+	}
+
+	/** meant to called in the order of the initial supplied files **/
+	public CompilationUnitDeclaration getParsedUnit(int index) throws Error {
+		Future<CompilationUnitDeclaration> future = this.parsedUnits[index];
+		this.parsedUnits[index] = null;
+		queueNextParseAhead();
+		CompilationUnitDeclaration parsedUnit;
+		try {
+			parsedUnit = future.get();
+		} catch (InterruptedException ignored) {
+			parsedUnit = parse(this.units[index], index);
+		} catch (ExecutionException e) {
+			// rethrow the caught exception from the parsing threads in the main compiler thread
+			if (e.getCause() instanceof Error err) {
+				throw err;
+			}
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw new RuntimeException(e);
+		}
+		// the worker's problem reporter must not be used for resolving the unit
+		parsedUnit.problemReporter = this.compiler.problemReporter;
+		return parsedUnit;
+	}
+
+	private void queueNextParseAhead() {
+		int index = this.nextUnitToParse;
+		if (index >= this.length) {
+			return;
+		}
+		this.nextUnitToParse++;
+		ICompilationUnit unit = this.units[index];
+		this.parsedUnits[index] = PARSER_SERVICE.submit(() -> parse(unit, index));
+	}
+
+	private CompilationUnitDeclaration parse(ICompilationUnit unit, int index) {
+		CompilationResult unitResult = new CompilationResult(unit, index, this.length, this.compiler.options.maxProblemsPerUnit);
+		Parser parser = this.parsers.poll();
+		if (parser == null) {
+			ProblemReporter problemReporter = this.compiler.problemReporter;
+			parser = new Parser(
+					new ProblemReporter(problemReporter.policy, this.compiler.options, problemReporter.problemFactory),
+					this.compiler.options.parseLiteralExpressionsAsConstants);
+		}
+		try {
+			unitResult.cacheSource();
+			return parser.dietParse(unit, unitResult);
+		} catch (AbortCompilation a) {
+			// best effort to find a way for reporting this problem:
+			if (a.compilationResult == null)
+				a.compilationResult = unitResult;
+			throw a;
+		} finally {
+			this.parsers.offer(parser);
+		}
+	}
+
+	@Override
+	public void close() {
+		// On exceptional handling (error/cancel) units could be still parsing, no longer needed:
+		for (int i = 0; i < this.length; i++) {
+			Future<CompilationUnitDeclaration> future = this.parsedUnits[i];
+			if (future != null) {
+				future.cancel(true);
+				this.parsedUnits[i] = null;
+			}
+		}
+		this.parsers.clear();
+	}
+}
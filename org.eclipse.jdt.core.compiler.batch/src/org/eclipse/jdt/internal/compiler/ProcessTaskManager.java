@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,17 @@ import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
 import org.eclipse.jdt.internal.compiler.util.Messages;
 
+/**
+ * Processes (resolve, analyze, generate) the units of a {@link Compiler} on a single background task, while the
+ * calling thread accepts the results in the original unit order.
+ * <p>
+ * Processing is restricted to one task per compiler: resolving a unit lazily completes bindings of other units
+ * through the shared {@link org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment} and may record problems
+ * into their {@link CompilationResult}s, neither of which is safe for concurrent access. Units are rather processed
+ * in parallel by several compilers sharing them, each with a lookup environment of its own and skipping the units
+ * that it does not claim (see {@link Compiler#unitClaim}).
+ * </p>
+ **/
 public class ProcessTaskManager implements AutoCloseable {
 
 	private final Compiler compiler;
@@ -123,6 +134,9 @@ public class ProcessTaskManager implements AutoCloseable {
 					if (unitToProcess.compilationResult.hasBeenAccepted) {
 						continue;
 					}
+					if (!this.compiler.claims(unitToProcess)) {
+						continue;
+					}
 
 					try {
 						this.compiler.reportProgress(Messages.bind(Messages.compilation_processing,
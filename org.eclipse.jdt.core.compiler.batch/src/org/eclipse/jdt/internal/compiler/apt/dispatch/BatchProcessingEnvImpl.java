@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 BEA Systems, Inc.
+ * Copyright (c) 2006, 2026 BEA Systems, Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import java.util.Locale;
 import java.util.Map;
 import javax.tools.JavaFileManager;
 import org.eclipse.jdt.internal.compiler.apt.util.EclipseFileManager;
+import org.eclipse.jdt.internal.compiler.batch.ClassFileJarWriter;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
@@ -83,6 +84,12 @@ public class BatchProcessingEnvImpl extends BaseProcessingEnvImpl {
 			JavaFileManager manager = new EclipseFileManager(batchCompiler.compilerLocale, charset);
 			ArrayList<String> options = new ArrayList<>();
 			options.addAll(Arrays.asList(commandLineArguments));
+			int destination = options.indexOf("-d"); //$NON-NLS-1$
+			if (destination >= 0 && destination + 1 < options.size()
+					&& ClassFileJarWriter.isJarDestination(options.get(destination + 1))) {
+				// class files are streamed into the jar by the compiler, there is no class output directory
+				options.subList(destination, destination + 2).clear();
+			}
 			for (Iterator<String> iterator = options.iterator(); iterator.hasNext(); ) {
 				manager.handleOption(iterator.next(), iterator);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -176,7 +176,11 @@ public void cleanUp() {
 
 	if (this.scope != null)
 		this.scope.cleanUpInferenceContexts();
-	this.compilationResult.releaseContent();
+	if (!this.compilationResult.hasProblems() && !this.compilationResult.hasTasks()) {
+		// otherwise keep the (softly referenced) source for the requestor rendering the problems,
+		// which would have to read and decode the file again
+		this.compilationResult.releaseContent();
+	}
 }
 
 private void cleanUp(TypeDeclaration type) {
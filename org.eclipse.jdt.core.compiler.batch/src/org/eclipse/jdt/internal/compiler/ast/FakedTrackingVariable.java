@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 GK Software SE and others.
+ * Copyright (c) 2011, 2026 GK Software SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -209,17 +209,90 @@ public class FakedTrackingVariable extends LocalDeclaration {
 			return local.closeTracker;
 		while (scope instanceof BlockScope) {
 			FakedTrackingVariable tracker = ((BlockScope) scope).getCloseTrackerFor(local);
-			if (tracker != null) {
-				if (tracker.riskyNullStatusAt(flowInfo) != 0)
-					return tracker;
-				if (tracker.hasDefinitelyNoResource(flowInfo))
-					return null;
-			}
-			scope = scope.parent;
+			if (tracker == null)
+				return null; // neither is there one in enclosing scopes
+			if (tracker.riskyNullStatusAt(flowInfo) != 0)
+				return tracker;
+			if (tracker.hasDefinitelyNoResource(flowInfo))
+				return null;
+			// scopes up to the declaring scope of tracker would answer the same tracker, continue outside of it:
+			scope = tracker.binding.declaringScope.parent;
 		}
 		return null;
 	}
 
+	/**
+	 * Answer whether the method enclosing scope has more resources than {@link LookupEnvironment#resourceLeakBudget}.
+	 * Resources are counted over the whole method before its first check, so that all exits of a method are treated
+	 * alike.
+	 */
+	public static boolean exceedsAnalysisBudget(BlockScope scope) {
+		int budget = scope.environment().resourceLeakBudget;
+		if (budget == Integer.MAX_VALUE)
+			return false;
+		MethodScope methodScope = scope.outerMostMethodScope();
+		if (methodScope.resourceCount < 0)
+			methodScope.resourceCount = countResources(methodScope);
+		return methodScope.resourceCount > budget;
+	}
+
+	/**
+	 * Count the local declarations, allocations and message sends of a closeable type in the code of the given method
+	 * scope, including its local types and lambdas. These are the candidates for tracking variables; allocations and
+	 * message sends assigned to a closeable local are tracked by the local's tracking variable, so they aren't counted.
+	 */
+	private static int countResources(MethodScope methodScope) {
+		class ResourceCounter extends ASTVisitor {
+			int count;
+			Expression trackedByLocal;
+			private void count(Expression expression, TypeBinding type) {
+				if (expression != this.trackedByLocal && isAnyCloseable(type))
+					this.count++;
+			}
+			@Override
+			public boolean visit(LocalDeclaration localDeclaration, BlockScope blockScope) {
+				if (localDeclaration.binding != null && isAnyCloseable(localDeclaration.binding.type)) {
+					this.count++;
+					this.trackedByLocal = localDeclaration.initialization;
+				}
+				return true;
+			}
+			@Override
+			public boolean visit(Assignment assignment, BlockScope blockScope) {
+				if (assignment.lhs.localVariableBinding() != null && isAnyCloseable(assignment.lhs.resolvedType))
+					this.trackedByLocal = assignment.expression;
+				return true;
+			}
+			@Override
+			public boolean visit(AllocationExpression allocationExpression, BlockScope blockScope) {
+				count(allocationExpression, allocationExpression.resolvedType);
+				return true;
+			}
+			@Override
+			public boolean visit(QualifiedAllocationExpression allocationExpression, BlockScope blockScope) {
+				count(allocationExpression, allocationExpression.resolvedType);
+				return true;
+			}
+			@Override
+			public boolean visit(MessageSend messageSend, BlockScope blockScope) {
+				count(messageSend, messageSend.resolvedType);
+				return true;
+			}
+		}
+		ResourceCounter counter = new ResourceCounter();
+		ReferenceContext context = methodScope.referenceContext;
+		if (context instanceof AbstractMethodDeclaration method) {
+			method.traverse(counter, methodScope.classScope());
+		} else if (context instanceof TypeDeclaration type && type.fields != null) {
+			// field initializers and initializer blocks
+			for (FieldDeclaration field : type.fields) {
+				if (field.isStatic() == methodScope.isStatic)
+					field.traverse(counter, methodScope);
+			}
+		}
+		return counter.count;
+	}
+
 	/**
 	 * If expression resolves to a value of type AutoCloseable answer the variable that tracks closing of that local.
 	 * Covers two cases:
@@ -1495,6 +1568,9 @@ public class FakedTrackingVariable extends LocalDeclaration {
 		if (isNotOwned()) {
 			return 0; // TODO: should we still propagate some flags??
 		}
+		if (exceedsAnalysisBudget(this.binding.declaringScope)) {
+			return 0;
+		}
 		// which degree of problem?
 		boolean isPotentialProblem = false;
 		if (nullStatus == FlowInfo.NULL) {
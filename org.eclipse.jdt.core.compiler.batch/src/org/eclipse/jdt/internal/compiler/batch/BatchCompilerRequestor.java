@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,7 @@ public class BatchCompilerRequestor implements ICompilerRequestor {
         }
         this.compiler.logger.startLoggingSource(compilationResult);
         if (compilationResult.hasProblems() || compilationResult.hasTasks()) {
-        	this.compiler.logger.logProblems(compilationResult.getAllProblems(), compilationResult.compilationUnit.getContents(), this.compiler);
+        	this.compiler.logger.logProblems(compilationResult.getAllProblems(), compilationResult.getContents(), this.compiler);
             reportProblems(compilationResult);
         }
         this.compiler.outputClassFiles(compilationResult);
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+
+/**
+ * Streams the class files of a compilation into jars, for destination paths naming a jar (<code>-d out.jar</code>)
+ * rather than a directory. Class files are written straight from their header and contents arrays, without
+ * intermediate files.
+ * <p>
+ * A jar is replaced as a whole: it is written to a temporary file next to it, which replaces the jar when the writer is
+ * closed at the end of the compilation.
+ * </p>
+ */
+public final class ClassFileJarWriter {
+
+	private static final class Jar {
+		final Path path;
+		final Path temporaryPath;
+		final JarOutputStream stream;
+		final Set<String> entryNames = new HashSet<>();
+
+		Jar(Path path) throws IOException {
+			this.path = path;
+			Path parent = path.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			this.temporaryPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			Manifest manifest = new Manifest();
+			manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+			this.stream = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(this.temporaryPath)), manifest);
+			this.entryNames.add(JarFile.MANIFEST_NAME);
+		}
+
+		void addDirectories(String entryName) throws IOException {
+			int last = entryName.lastIndexOf('/');
+			if (last <= 0 || this.entryNames.contains(entryName.substring(0, last + 1)))
+				return;
+			addDirectories(entryName.substring(0, last));
+			String directoryName = entryName.substring(0, last + 1);
+			this.entryNames.add(directoryName);
+			this.stream.putNextEntry(new ZipEntry(directoryName));
+			this.stream.closeEntry();
+		}
+
+		void write(String entryName, ClassFile classFile) throws IOException {
+			if (!this.entryNames.add(entryName))
+				throw new IOException("Duplicate entry " + entryName); //$NON-NLS-1$
+			addDirectories(entryName);
+			this.stream.putNextEntry(new ZipEntry(entryName));
+			this.stream.write(classFile.header, 0, classFile.headerOffset);
+			this.stream.write(classFile.contents, 0, classFile.contentsOffset);
+			this.stream.closeEntry();
+		}
+	}
+
+	private final Map<String, Jar> jars = new HashMap<>();
+
+	/**
+	 * Answers whether the given destination path names a jar to stream class files into, i.e. it ends with
+	 * <code>.jar</code> and is not an existing directory.
+	 */
+	public static boolean isJarDestination(String destinationPath) {
+		return destinationPath.regionMatches(true, destinationPath.length() - 4, ".jar", 0, 4) //$NON-NLS-1$
+				&& !new File(destinationPath).isDirectory();
+	}
+
+	/**
+	 * Adds the given class file to the jar named by destinationPath, creating the jar on first use.
+	 *
+	 * @param entryName
+	 *            the name of the class file within the jar, separated by <code>'/'</code>
+	 */
+	public synchronized void write(String destinationPath, String entryName, ClassFile classFile) throws IOException {
+		Jar jar = this.jars.get(destinationPath);
+		if (jar == null) {
+			jar = new Jar(Path.of(destinationPath));
+			this.jars.put(destinationPath, jar);
+		}
+		jar.write(entryName, classFile);
+	}
+
+	/**
+	 * Completes all jars and moves them into place.
+	 *
+	 * @return the paths of the jars which could not be written, mapped to the reason
+	 */
+	public synchronized Map<String, IOException> close() {
+		Map<String, IOException> failures = new HashMap<>();
+		for (Map.Entry<String, Jar> entry : this.jars.entrySet()) {
+			Jar jar = entry.getValue();
+			try {
+				try {
+					jar.stream.close();
+					Files.move(jar.temporaryPath, jar.path, StandardCopyOption.REPLACE_EXISTING);
+				} finally {
+					Files.deleteIfExists(jar.temporaryPath);
+				}
+			} catch (IOException e) {
+				failures.put(entry.getKey(), e);
+			}
+		}
+		this.jars.clear();
+		return failures;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.jdt.internal.compiler.parser.Parser;
 import org.eclipse.jdt.internal.compiler.parser.ScannerHelper;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.eclipse.jdt.internal.compiler.util.DirectoryListingCache;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
 public class ClasspathDirectory extends ClasspathLocation {
@@ -102,7 +103,7 @@ private String[] directoryList(String qualifiedPackageName) {
 private String[] computeDirectoryList(String qualifiedPackageName) {
 	String qualifiedPackagePath = qualifiedPackageName.replace('/', File.separatorChar);
 	File dir = new File(this.path + qualifiedPackagePath);
-	String[] dirList = dir.list();
+	String[] dirList = DirectoryListingCache.listDirectory(dir); // may be shared with other compilations, don't modify
 	if (dirList != null) { // if isDirectory
 		if (dirList.length == 0) {
 			dirList = CharOperation.NO_STRINGS;
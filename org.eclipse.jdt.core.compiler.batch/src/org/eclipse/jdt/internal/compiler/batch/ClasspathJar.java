@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -39,9 +38,11 @@ import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.BinaryTypeBinding.ExternalAnnotationStatus;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.JarClassCache;
+import org.eclipse.jdt.internal.compiler.util.JarClassCache.JarClasses;
+import org.eclipse.jdt.internal.compiler.util.JarPackageIndex;
 import org.eclipse.jdt.internal.compiler.util.ManifestAnalyzer;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
-import org.eclipse.jdt.internal.compiler.util.Util;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ClasspathJar extends ClasspathLocation {
@@ -51,7 +52,9 @@ protected ZipFile zipFile;
 protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
+private JarPackageIndex packageIndex;
 protected List<String> annotationPaths;
+private JarClasses jarClasses;
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
@@ -112,14 +115,15 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
 				ClassFileReader classReader = (ClassFileReader) reader;
-				if (classReader.moduleName == null)
-					classReader.moduleName = modName;
-				else
+				if (classReader.moduleName == null) {
+					if (this.jarClasses == null) // readers of the shared cache stay untouched, the answer carries the module
+						classReader.moduleName = modName;
+				} else
 					modName = classReader.moduleName;
 			}
 			searchPaths:
@@ -149,6 +153,13 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 	}
 	return null;
 }
+private ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	if (this.jarClasses == null)
+		this.jarClasses = JarClassCache.forJar(this.file.toPath());
+	if (this.jarClasses != null)
+		return this.jarClasses.read(this.zipFile, qualifiedBinaryFileName);
+	return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+}
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
 	if (this.zipFile == null)
@@ -157,28 +168,18 @@ public boolean hasAnnotationFileFor(String qualifiedTypeName) {
 }
 @Override
 public char[][][] findTypeNames(final String qualifiedPackageName, String moduleName) {
-	if (!isPackage(qualifiedPackageName, moduleName))
-		return null; // most common case
+	if (!isPackage(qualifiedPackageName, moduleName) || qualifiedPackageName.isEmpty())
+		return null; // most common case, types of the unnamed package cannot be imported
 	final char[] packageArray = qualifiedPackageName.toCharArray();
 	final ArrayList answers = new ArrayList();
-	nextEntry : for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-
-		// add the package name & all of its parent packages
-		int last = fileName.lastIndexOf('/');
-		if (last > 0) {
-			// extract the package name
-			String packageName = fileName.substring(0, last);
-			if (!qualifiedPackageName.equals(packageName))
-				continue nextEntry;
-			int indexOfDot = fileName.lastIndexOf('.');
-			if (indexOfDot != -1) {
-				String typeName = fileName.substring(last + 1, indexOfDot);
-				answers.add(
-					CharOperation.arrayConcat(
-						CharOperation.splitOn('/', packageArray),
-						typeName.toCharArray()));
-			}
+	for (String entryName : packageIndex().entryNames(qualifiedPackageName)) {
+		int indexOfDot = entryName.lastIndexOf('.');
+		if (indexOfDot != -1) {
+			String typeName = entryName.substring(0, indexOfDot);
+			answers.add(
+				CharOperation.arrayConcat(
+					CharOperation.splitOn('/', packageArray),
+					typeName.toCharArray()));
 		}
 	}
 	int size = answers.size();
@@ -225,32 +226,27 @@ protected void addToPackageCache(String fileName, boolean endsWithSep) {
 		last = packageName.lastIndexOf('/');
 	}
 }
+/**
+ * Answers the package index of the jar, which is shared with other compilations of the same jar.
+ */
+protected synchronized JarPackageIndex packageIndex() {
+	if (this.packageIndex == null)
+		this.packageIndex = JarPackageIndex.forJar(this.file, this.zipFile);
+	return this.packageIndex;
+}
 @Override
 public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
-	if (this.packageCache != null)
-		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
-
-	this.packageCache = new HashSet<>(41);
-	this.packageCache.add(Util.EMPTY_STRING);
-
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-		addToPackageCache(fileName, false);
-	}
+	if (this.packageCache == null)
+		this.packageCache = packageIndex().packageNames();
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
 public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
-	qualifiedPackageName += '/';
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-		if (fileName.startsWith(qualifiedPackageName) && fileName.length() > qualifiedPackageName.length()) {
-			String tail = fileName.substring(qualifiedPackageName.length());
-			if (tail.indexOf('/') != -1)
-				continue;
-			if (tail.toLowerCase().endsWith(SUFFIX_STRING_class))
-				return true;
-		}
+	if (qualifiedPackageName.isEmpty())
+		return false;
+	for (String entryName : packageIndex().entryNames(qualifiedPackageName)) {
+		if (entryName.toLowerCase().endsWith(SUFFIX_STRING_class))
+			return true;
 	}
 	return false;
 }
@@ -258,11 +254,16 @@ public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName
 @Override
 public char[][] listPackages() {
 	Set<String> packageNames = new HashSet<>();
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-		int lastSlash = fileName.lastIndexOf('/');
-		if (lastSlash != -1 && fileName.toLowerCase().endsWith(SUFFIX_STRING_class))
-			packageNames.add(fileName.substring(0, lastSlash).replace('/', '.'));
+	JarPackageIndex index = packageIndex();
+	nextPackage : for (String packageName : index.packagesWithEntries()) {
+		if (packageName.isEmpty())
+			continue;
+		for (String entryName : index.entryNames(packageName)) {
+			if (entryName.toLowerCase().endsWith(SUFFIX_STRING_class)) {
+				packageNames.add(packageName.replace('/', '.'));
+				continue nextPackage;
+			}
+		}
 	}
 	return packageNames.stream().map(String::toCharArray).toArray(char[][]::new);
 }
@@ -289,7 +290,9 @@ public void reset() {
 		}
 	}
 	this.packageCache = null;
+	this.packageIndex = null;
 	this.annotationPaths = null;
+	this.jarClasses = null;
 }
 @Override
 public String toString() {
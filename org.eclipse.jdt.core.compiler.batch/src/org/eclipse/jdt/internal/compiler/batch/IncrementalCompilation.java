@@ -0,0 +1,430 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
+
+/**
+ * Keeps the state of the command line compilations into a destination directory (<code>-incremental &lt;file&gt;</code>),
+ * so that a compilation only recompiles the compilation units which changed since the previous one, and the units
+ * affected by them.
+ * <p>
+ * As with the incremental image builder, units are compiled in rounds. The first round compiles the units which were
+ * added or modified. The class files they produce are compared with the previous ones, and the units which reference a
+ * type whose class file changed structurally (or which was added or removed) are compiled in the next round, until no
+ * more units are affected. Units are matched against a change through the references recorded for them by the
+ * compiler.
+ * </p>
+ * <p>
+ * The state records a fingerprint of the configuration (options and classpath): when it differs, all units are
+ * compiled.
+ * </p>
+ */
+public final class IncrementalCompilation {
+
+	private static final int VERSION = 1;
+	private static final String[] NO_NAMES = new String[0];
+
+	private static final class Unit {
+		long lastModified = -1; // -1 forces the unit to be compiled
+		long length;
+		String[] typeNames = NO_NAMES; // class files produced, relative to the destination directory, e.g. p/X$Y
+		Set<String> qualifiedReferences = Collections.emptySet(); // e.g. p/q
+		Set<String> simpleNameReferences = Collections.emptySet();
+		Set<String> rootReferences = Collections.emptySet();
+
+		boolean references(String typeName) {
+			int lastSlash = typeName.lastIndexOf('/');
+			int memberStart = typeName.indexOf('$', lastSlash + 1);
+			String simpleName = typeName.substring(lastSlash + 1, memberStart > lastSlash + 1 ? memberStart : typeName.length());
+			if (!this.simpleNameReferences.contains(simpleName))
+				return false;
+			if (lastSlash < 0)
+				return true; // default package
+			int firstSlash = typeName.indexOf('/');
+			if (!this.rootReferences.contains(typeName.substring(0, firstSlash)))
+				return false;
+			// the names of packages with a single segment are only recorded as root references
+			return firstSlash == lastSlash || this.qualifiedReferences.contains(typeName.substring(0, lastSlash));
+		}
+	}
+
+	private final File stateFile;
+	private final File destination;
+	private final Map<String, String> options;
+	private final Classpath[] classpaths;
+	private String configuration;
+	private final Map<String, Unit> units = new HashMap<>(); // keyed by the canonical path of the units
+	private String[] fileNames; // canonical paths of the units of this compilation
+	private final Set<String> compiled = new HashSet<>(); // units compiled by this compilation
+	private final Set<String> changedTypes = new HashSet<>(); // types changed by the current round
+	private final Map<String, byte[]> previousClassFiles = new HashMap<>();
+	private final Map<String, long[]> stamps = new HashMap<>(); // last modified time and length of the units of the current round
+	private int compiledCount;
+
+	public IncrementalCompilation(File stateFile, String destinationPath, Map<String, String> options, Classpath[] classpaths) {
+		this.stateFile = stateFile;
+		this.destination = new File(destinationPath);
+		this.options = options;
+		this.classpaths = classpaths;
+	}
+
+	private static String canonicalPath(String fileName) {
+		try {
+			return new File(fileName).getCanonicalPath();
+		} catch (IOException e) {
+			// fall back to the name that was specified, as getCompilationUnits() does
+			return fileName;
+		}
+	}
+
+	private File classFile(String typeName) {
+		return new File(this.destination, typeName.replace('/', File.separatorChar) + SuffixConstants.SUFFIX_STRING_class);
+	}
+
+	/**
+	 * Reads the state of the previous compilation, and deletes the class files of the units it compiled which are no
+	 * longer part of the compilation.
+	 *
+	 * @return which of the given units to compile in the first round
+	 */
+	public boolean[] start(String[] names) {
+		this.fileNames = new String[names.length];
+		for (int i = 0; i < names.length; i++)
+			this.fileNames[i] = canonicalPath(names[i]);
+		this.configuration = computeConfiguration();
+		boolean sameConfiguration = readState();
+		Set<String> removed = new HashSet<>(this.units.keySet());
+		for (String fileName : this.fileNames)
+			removed.remove(fileName);
+		for (String fileName : removed) {
+			for (String typeName : this.units.remove(fileName).typeNames) {
+				classFile(typeName).delete();
+				this.changedTypes.add(typeName);
+			}
+		}
+		boolean[] toCompile = affectedUnits();
+		for (int i = 0; i < names.length; i++) {
+			if (!sameConfiguration) {
+				toCompile[i] = true;
+				continue;
+			}
+			Unit unit = this.units.get(this.fileNames[i]);
+			File file = new File(this.fileNames[i]);
+			if (unit == null || unit.lastModified == -1
+					|| unit.lastModified != file.lastModified() || unit.length != file.length()
+					|| !classFilesExist(unit))
+				toCompile[i] = true;
+		}
+		return toCompile;
+	}
+
+	/*
+	 * Answers a fingerprint of the options and of the classpath entries, including the time stamps of the class and
+	 * source files of directories. The destination directory and the units of the compilation are left out, as the
+	 * state tracks them.
+	 */
+	private String computeConfiguration() {
+		StringBuilder buffer = new StringBuilder();
+		new TreeMap<>(this.options).forEach((key, value) -> buffer.append(key).append('=').append(value).append('\n'));
+		String destinationPath = canonicalPath(this.destination.getPath());
+		buffer.append(destinationPath).append('\n');
+		Set<String> unitNames = new HashSet<>(Arrays.asList(this.fileNames));
+		for (Classpath classpath : this.classpaths) {
+			String path = classpath.getPath();
+			buffer.append(path);
+			if (classpath instanceof ClasspathDirectory) {
+				if (canonicalPath(path).equals(destinationPath))
+					continue;
+				long[] fingerprint = new long[2];
+				try {
+					Files.walkFileTree(Path.of(path), new SimpleFileVisitor<Path>() {
+						@Override
+						public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+							String name = file.getFileName().toString();
+							if (name.endsWith(SuffixConstants.SUFFIX_STRING_class)
+									|| (name.endsWith(SuffixConstants.SUFFIX_STRING_java)
+											&& !unitNames.contains(file.toAbsolutePath().normalize().toString()))) {
+								fingerprint[0]++;
+								fingerprint[1] += attributes.lastModifiedTime().toMillis();
+							}
+							return FileVisitResult.CONTINUE;
+						}
+					});
+				} catch (IOException e) {
+					fingerprint[0] = -1;
+				}
+				buffer.append(' ').append(fingerprint[0]).append(' ').append(fingerprint[1]);
+			} else {
+				File file = new File(path);
+				buffer.append(' ').append(file.lastModified()).append(' ').append(file.length());
+			}
+			buffer.append('\n');
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.toString().getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return buffer.toString(); // every platform supports SHA-256
+		}
+	}
+
+	private boolean classFilesExist(Unit unit) {
+		for (String typeName : unit.typeNames) {
+			if (!classFile(typeName).isFile())
+				return false;
+		}
+		return true;
+	}
+
+	private boolean readState() {
+		if (!this.stateFile.isFile())
+			return false;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.stateFile.toPath())))) {
+			if (in.readInt() != VERSION)
+				return false;
+			boolean sameConfiguration = in.readUTF().equals(this.configuration);
+			for (int i = in.readInt(); --i >= 0;) {
+				String fileName = in.readUTF();
+				Unit unit = new Unit();
+				unit.lastModified = in.readLong();
+				unit.length = in.readLong();
+				unit.typeNames = readNames(in);
+				unit.qualifiedReferences = Set.of(readNames(in));
+				unit.simpleNameReferences = Set.of(readNames(in));
+				unit.rootReferences = Set.of(readNames(in));
+				this.units.put(fileName, unit);
+			}
+			return sameConfiguration;
+		} catch (IOException | IllegalArgumentException e) {
+			// unreadable state, compile all units
+			this.units.clear();
+			return false;
+		}
+	}
+
+	private static String[] readNames(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == 0)
+			return NO_NAMES;
+		String[] names = new String[length];
+		for (int i = 0; i < length; i++)
+			names[i] = in.readUTF();
+		return names;
+	}
+
+	/**
+	 * Prepares a round compiling the given units: reads the class files they previously produced, to compare them
+	 * with the new ones, and deletes them so that they are not found as binary types.
+	 */
+	public void beginRound(boolean[] toCompile) {
+		for (int i = 0; i < toCompile.length; i++) {
+			if (!toCompile[i])
+				continue;
+			String fileName = this.fileNames[i];
+			this.compiled.add(fileName);
+			this.compiledCount++;
+			Unit unit = this.units.get(fileName);
+			if (unit != null) {
+				for (String typeName : unit.typeNames) {
+					File classFile = classFile(typeName);
+					try {
+						this.previousClassFiles.put(typeName, Files.readAllBytes(classFile.toPath()));
+					} catch (IOException e) {
+						this.changedTypes.add(typeName);
+					}
+					classFile.delete();
+				}
+			}
+			// a unit which is not accepted (e.g. because the compilation is aborted) is compiled again next time
+			this.units.put(fileName, new Unit());
+			// stamped before the compiler reads the unit, so that a later change is compiled next time
+			File file = new File(fileName);
+			this.stamps.put(fileName, new long[] { file.lastModified(), file.length() });
+		}
+	}
+
+	/**
+	 * Records the result of the compilation of a unit of the current round.
+	 *
+	 * @param classFilesWritten
+	 *            whether the class files of the result are written to the destination directory
+	 */
+	public synchronized void acceptResult(CompilationResult result, boolean classFilesWritten) {
+		String fileName = String.valueOf(result.getFileName());
+		if (!this.compiled.contains(fileName))
+			return; // found on the source path, not tracked
+		Unit unit = new Unit();
+		if (classFilesWritten) {
+			long[] stamp = this.stamps.get(fileName);
+			unit.lastModified = stamp[0];
+			unit.length = stamp[1];
+			ClassFile[] classFiles = result.getClassFiles();
+			unit.typeNames = new String[classFiles.length];
+			for (int i = 0; i < classFiles.length; i++) {
+				String typeName = String.valueOf(classFiles[i].fileName());
+				unit.typeNames[i] = typeName;
+				byte[] previousBytes = this.previousClassFiles.remove(typeName);
+				if (previousBytes == null || hasStructuralChanges(previousBytes, classFiles[i].getBytes(), typeName))
+					this.changedTypes.add(typeName);
+			}
+		}
+		unit.qualifiedReferences = toSet(result.qualifiedReferences);
+		unit.simpleNameReferences = toSet(result.simpleNameReferences);
+		unit.rootReferences = toSet(result.rootReferences);
+		this.units.put(fileName, unit);
+	}
+
+	private static boolean hasStructuralChanges(byte[] previousBytes, byte[] newBytes, String typeName) {
+		try {
+			return ClassFileReader.read(previousBytes, typeName).hasStructuralChanges(newBytes, true, true);
+		} catch (ClassFormatException | IOException e) {
+			return true;
+		}
+	}
+
+	private static Set<String> toSet(char[][] names) {
+		if (names == null || names.length == 0)
+			return Collections.emptySet();
+		Set<String> set = new HashSet<>(names.length * 2);
+		for (char[] name : names)
+			set.add(String.valueOf(name));
+		return set;
+	}
+
+	private static Set<String> toSet(char[][][] compoundNames) {
+		if (compoundNames == null || compoundNames.length == 0)
+			return Collections.emptySet();
+		Set<String> set = new HashSet<>(compoundNames.length * 2);
+		for (char[][] compoundName : compoundNames)
+			set.add(String.valueOf(CharOperation.concatWith(compoundName, '/')));
+		return set;
+	}
+
+	/**
+	 * Completes the current round.
+	 *
+	 * @return the units to compile in the next round, because they reference a type changed by the current round, or
+	 *         <code>null</code> if there are none
+	 */
+	public boolean[] endRound() {
+		// types which are no longer produced
+		this.changedTypes.addAll(this.previousClassFiles.keySet());
+		this.previousClassFiles.clear();
+		boolean[] toCompile = affectedUnits();
+		for (boolean unit : toCompile) {
+			if (unit)
+				return toCompile;
+		}
+		return null;
+	}
+
+	private boolean[] affectedUnits() {
+		boolean[] toCompile = new boolean[this.fileNames.length];
+		if (this.changedTypes.isEmpty())
+			return toCompile;
+		for (int i = 0; i < this.fileNames.length; i++) {
+			if (this.compiled.contains(this.fileNames[i]))
+				continue;
+			Unit unit = this.units.get(this.fileNames[i]);
+			if (unit == null)
+				continue;
+			for (String typeName : this.changedTypes) {
+				if (unit.references(typeName)) {
+					toCompile[i] = true;
+					break;
+				}
+			}
+		}
+		this.changedTypes.clear();
+		return toCompile;
+	}
+
+	/**
+	 * Answers how many units were compiled by this compilation.
+	 */
+	public int compiledCount() {
+		return this.compiledCount;
+	}
+
+	/**
+	 * Writes the state of the compilation, for the next one.
+	 */
+	public void save() throws IOException {
+		Path path = this.stateFile.toPath().toAbsolutePath();
+		Files.createDirectories(path.getParent());
+		Path temporaryPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(this.configuration);
+				List<String> unitNames = new ArrayList<>(this.units.keySet());
+				Collections.sort(unitNames);
+				out.writeInt(unitNames.size());
+				for (String fileName : unitNames) {
+					Unit unit = this.units.get(fileName);
+					out.writeUTF(fileName);
+					out.writeLong(unit.lastModified);
+					out.writeLong(unit.length);
+					writeNames(out, unit.typeNames);
+					writeNames(out, unit.qualifiedReferences.toArray(NO_NAMES));
+					writeNames(out, unit.simpleNameReferences.toArray(NO_NAMES));
+					writeNames(out, unit.rootReferences.toArray(NO_NAMES));
+				}
+			}
+			Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	private static void writeNames(DataOutputStream out, String[] names) throws IOException {
+		out.writeInt(names.length);
+		for (String name : names)
+			out.writeUTF(name);
+	}
+}
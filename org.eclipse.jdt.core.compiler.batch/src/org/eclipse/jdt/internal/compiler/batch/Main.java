@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,12 @@ import java.text.DateFormat;
 import java.text.MessageFormat;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -72,15 +78,19 @@ import org.eclipse.jdt.internal.compiler.env.AccessRuleSet;
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.IModule.IPackageExport;
+import org.eclipse.jdt.internal.compiler.env.IUpdatableModule;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.UpdateKind;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats.UnitStats;
 import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
 import org.eclipse.jdt.internal.compiler.lookup.PackageBinding;
 import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
@@ -961,6 +971,8 @@ public class Main implements ProblemSeverities, SuffixConstants {
 			printlnOut(this.main.bind("compile.repetition", //$NON-NLS-1$
 				String.valueOf(i + 1), String.valueOf(repetitions)));
 		}
+		private static final int SLOWEST_UNITS = 10; // number of units listed by -time:detail
+
 		public void logTiming(CompilerStats compilerStats) {
 			long time = compilerStats.elapsedTime();
 			long lineCount = compilerStats.lineCount;
@@ -999,6 +1011,27 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				printlnOut(this.main.bind("compile.binaryTypes", String.valueOf(compilerStats.binaryTypeCount))); //$NON-NLS-1$
+				printlnOut(this.main.bind("compile.inferenceCache", //$NON-NLS-1$
+						String.valueOf(compilerStats.inferenceCacheHits),
+						String.valueOf(compilerStats.inferenceCacheHits + compilerStats.inferenceCacheMisses)));
+				printlnOut(this.main.bind("compile.methodLookupCache", //$NON-NLS-1$
+						String.valueOf(compilerStats.methodLookupCacheHits),
+						String.valueOf(compilerStats.methodLookupCacheHits + compilerStats.methodLookupCacheMisses)));
+				for (UnitStats unitStats : compilerStats.slowestUnits(SLOWEST_UNITS)) {
+					printlnOut(
+						this.main.bind("compile.unitTime", //$NON-NLS-1$
+							new String[] {
+								new String(unitStats.fileName),
+								String.valueOf(unitStats.elapsedTime() / 1000000),
+								String.valueOf(unitStats.parseTime / 1000000),
+								String.valueOf(unitStats.resolveTime / 1000000),
+								String.valueOf(unitStats.analyzeTime / 1000000),
+								String.valueOf(unitStats.generateTime / 1000000),
+								String.valueOf(unitStats.binaryTypeCount),
+								String.valueOf(unitStats.problemCount),
+							}));
+				}
 			}
 		}
 
@@ -1302,6 +1335,192 @@ public class Main implements ProblemSeverities, SuffixConstants {
 		}
 	}
 
+	/**
+	 * Name environment of a module, or of a worker, compiled concurrently to other modules or workers: its classpath
+	 * entries are shared with the environments of the others, so they are accessed under a common lock.
+	 * <p>
+	 * The lookups of all the modules or workers are thus serialized, and compilations spending much of their time in
+	 * classpath lookups gain less from running in parallel. A lock per location would require every lookup of the
+	 * {@link FileSystem} to lock the locations it visits, one at a time.
+	 * </p>
+	 */
+	private static final class SharedLocationsFileSystem extends FileSystem {
+		private final Object lock;
+
+		SharedLocationsFileSystem(Classpath[] paths, String[] initialFileNames, boolean annotationsFromClasspath,
+				Set<String> limitedModules, Object lock) {
+			super(paths, initialFileNames, annotationsFromClasspath, limitedModules);
+			this.lock = lock;
+		}
+		@Override
+		public NameEnvironmentAnswer findType(char[][] compoundName, char[] moduleName) {
+			synchronized (this.lock) {
+				return super.findType(compoundName, moduleName);
+			}
+		}
+		@Override
+		public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName, char[] moduleName) {
+			synchronized (this.lock) {
+				return super.findType(typeName, packageName, moduleName);
+			}
+		}
+		@Override
+		public char[][] getModulesDeclaringPackage(char[][] packageName, char[] moduleName) {
+			synchronized (this.lock) {
+				return super.getModulesDeclaringPackage(packageName, moduleName);
+			}
+		}
+		@Override
+		public boolean hasCompilationUnit(char[][] qualifiedPackageName, char[] moduleName, boolean checkCUs) {
+			synchronized (this.lock) {
+				return super.hasCompilationUnit(qualifiedPackageName, moduleName, checkCUs);
+			}
+		}
+		@Override
+		public IModule getModule(char[] name) {
+			synchronized (this.lock) {
+				return super.getModule(name);
+			}
+		}
+		@Override
+		public IModule getModuleFromEnvironment(char[] name) {
+			synchronized (this.lock) {
+				return super.getModuleFromEnvironment(name);
+			}
+		}
+		@Override
+		public char[][] getAllAutomaticModules() {
+			synchronized (this.lock) {
+				return super.getAllAutomaticModules();
+			}
+		}
+		@Override
+		public char[][] listPackages(char[] moduleName) {
+			synchronized (this.lock) {
+				return super.listPackages(moduleName);
+			}
+		}
+		@Override
+		public void applyModuleUpdates(IUpdatableModule compilerModule, UpdateKind kind) {
+			synchronized (this.lock) {
+				super.applyModuleUpdates(compilerModule, kind);
+			}
+		}
+		@Override
+		public void cleanup() {
+			// the classpath entries are reset once all modules are compiled
+		}
+	}
+
+	/**
+	 * Results of the units shared by the workers of a compilation, each unit being processed by the first worker which
+	 * claims it. The results are answered in the order of the units, then the results of the units found on the source
+	 * path in the order of their file names. Workers wait before claiming units too far ahead of the answered ones.
+	 */
+	private static final class UnitResults {
+		private static final int PENDING_UNITS_PER_WORKER = 100;
+
+		private final String[] fileNames;
+		private final Map<String, Integer> indexes;
+		private final CompilationResult[] results;
+		private final int[] producers;
+		private final Map<String, Integer> claims = new HashMap<>(); // file name -> worker
+		private final TreeMap<String, CompilationResult> otherResults = new TreeMap<>();
+		private final Map<String, Integer> otherProducers = new HashMap<>();
+		private final boolean[] finished;
+		private final int maxPendingUnits;
+		private int runningWorkers;
+		private int nextIndex;
+		private boolean canceled;
+
+		UnitResults(CompilationUnit[] units, Map<String, Integer> indexes, int workerCount) {
+			this.fileNames = new String[units.length];
+			for (int i = 0; i < units.length; i++)
+				this.fileNames[i] = String.valueOf(units[i].getFileName());
+			this.indexes = indexes;
+			this.results = new CompilationResult[units.length];
+			this.producers = new int[units.length];
+			this.finished = new boolean[workerCount];
+			this.maxPendingUnits = PENDING_UNITS_PER_WORKER * workerCount;
+			this.runningWorkers = workerCount;
+		}
+		/*
+		 * Answers whether the given worker processes the given unit, which no other worker claimed before
+		 */
+		synchronized boolean claim(CompilationUnitDeclaration unit, int worker) {
+			String fileName = String.valueOf(unit.getFileName());
+			Integer index = this.indexes.get(fileName);
+			try {
+				while (!this.canceled && index != null && index.intValue() >= this.nextIndex + this.maxPendingUnits)
+					wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			if (this.canceled || this.claims.containsKey(fileName))
+				return false;
+			this.claims.put(fileName, Integer.valueOf(worker));
+			return true;
+		}
+		/*
+		 * Records the given result of the given worker, unless a result was already recorded for the same unit
+		 */
+		synchronized void add(CompilationResult result, int worker) {
+			String fileName = String.valueOf(result.getFileName());
+			Integer index = this.indexes.get(fileName);
+			if (index == null) {
+				if (this.otherResults.putIfAbsent(fileName, result) == null)
+					this.otherProducers.put(fileName, Integer.valueOf(worker));
+			} else if (index.intValue() >= this.nextIndex && this.results[index.intValue()] == null) {
+				this.results[index.intValue()] = result;
+				this.producers[index.intValue()] = worker;
+				notifyAll();
+			}
+		}
+		synchronized void finish(int worker, boolean failed) {
+			this.finished[worker] = true;
+			this.runningWorkers--;
+			this.canceled |= failed;
+			notifyAll();
+		}
+		synchronized void cancel() {
+			this.canceled = true;
+			notifyAll();
+		}
+		/*
+		 * Answers the next result, storing the worker which produced it into producer[0], or null once all the workers
+		 * are done and their results answered, or if the compilation was canceled
+		 */
+		synchronized CompilationResult next(int[] producer) throws InterruptedException {
+			while (!this.canceled && this.nextIndex < this.results.length) {
+				int index = this.nextIndex;
+				CompilationResult result = this.results[index];
+				if (result == null && isPending(index)) {
+					wait();
+					continue;
+				}
+				this.results[index] = null;
+				this.nextIndex++;
+				notifyAll(); // workers may claim one more unit
+				if (result != null) { // otherwise the worker which claimed the unit aborted
+					producer[0] = this.producers[index];
+					return result;
+				}
+			}
+			while (!this.canceled && this.runningWorkers > 0)
+				wait();
+			if (this.canceled || this.otherResults.isEmpty())
+				return null;
+			Map.Entry<String, CompilationResult> other = this.otherResults.pollFirstEntry();
+			producer[0] = this.otherProducers.get(other.getKey()).intValue();
+			return other.getValue();
+		}
+		private boolean isPending(int index) {
+			Integer worker = this.claims.get(this.fileNames[index]);
+			return worker == null ? this.runningWorkers > 0 : !this.finished[worker.intValue()];
+		}
+	}
+
 	// used with -annotationpath to declare that annotations should be read from the classpath:
 	private static final String ANNOTATION_SOURCE_CLASSPATH = "CLASSPATH"; //$NON-NLS-1$
 
@@ -1315,6 +1534,8 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	/* Bundle containing messages */
 	public ResourceBundle bundle;
 	protected FileSystem.Classpath[] checkedClasspaths;
+	// locations of the modules of the module source path, null without --module-source-path
+	private List<FileSystem.Classpath> sourceModuleLocations;
 	// For single module mode
 	protected IModule module;
 	private String moduleVersion;
@@ -1333,6 +1554,14 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	public CompilationProgress progress;
 	public String destinationPath;
 	public String[] destinationPaths;
+	// jars of destination paths naming a jar, written to during a compilation
+	private ClassFileJarWriter classFileJarWriter;
+	// whether each destination path of the compilation in progress names a jar, checked once per compilation
+	private final Map<String, Boolean> jarDestinations = new HashMap<>();
+	// file keeping the state of incremental compilations (-incremental), null for full compilations
+	private String incrementalStateFile;
+	// state of the incremental compilation in progress
+	private IncrementalCompilation incrementalCompilation;
 	// destination path for compilation units that get no more specific
 	// one (through directory arguments or various classpath options);
 	// coding is:
@@ -1755,6 +1984,7 @@ public void configure(String[] argv) {
 	final int INSIDE_LIMIT_MODULES = 31;
 	final int INSIDE_MODULE_VERSION = 32;
 	final int INSIDE_PATCH_MODULE = 33;
+	final int INSIDE_INCREMENTAL = 34;
 
 	final int DEFAULT = 0;
 	ArrayList<String> bootclasspaths = new ArrayList<>(DEFAULT_SIZE_CLASSPATH);
@@ -1963,6 +2193,13 @@ public void configure(String[] argv) {
 					mode = INSIDE_REPETITION;
 					continue;
 				}
+				if (currentArg.equals("-incremental")) { //$NON-NLS-1$
+					if (this.incrementalStateFile != null)
+						throw new IllegalArgumentException(
+							this.bind("configure.duplicateIncremental", currentArg)); //$NON-NLS-1$
+					mode = INSIDE_INCREMENTAL;
+					continue;
+				}
 				if (currentArg.equals("-maxProblems")) { //$NON-NLS-1$
 					if (this.maxProblems > 0)
 						throw new IllegalArgumentException(
@@ -2564,6 +2801,10 @@ public void configure(String[] argv) {
 				}
 				mode = DEFAULT;
 				continue;
+			case INSIDE_INCREMENTAL :
+				this.incrementalStateFile = currentArg;
+				mode = DEFAULT;
+				continue;
 			case INSIDE_MAX_PROBLEMS :
 				try {
 					this.maxProblems = Integer.parseInt(currentArg);
@@ -2985,6 +3226,10 @@ public void configure(String[] argv) {
 
 	if (moduleSourcepathArg == null) {
 		handleSingleModuleCompilation();
+	} else if (this.destinationPath != null && this.destinationPath != NONE
+			&& ClassFileJarWriter.isJarDestination(this.destinationPath)) {
+		// each module is written to a directory of its own
+		throw new IllegalArgumentException(this.bind("configure.moduleSourcepathJarDestination", this.destinationPath)); //$NON-NLS-1$
 	}
 
 	setPaths(bootclasspaths,
@@ -2997,6 +3242,10 @@ public void configure(String[] argv) {
 			endorsedDirClasspaths,
 			customEncoding);
 
+	if (this.incrementalStateFile != null) {
+		validateIncrementalOptions(moduleSourcepathArg);
+	}
+
 	if (specifiedEncodings != null && specifiedEncodings.size() > 1) {
 		this.logger.logWarning(this.bind("configure.multipleencodings", //$NON-NLS-1$
 				this.options.get(CompilerOptions.OPTION_Encoding),
@@ -4611,6 +4860,8 @@ private static boolean isParentOf(char[] folderName, char[] fileName) {
 // Dump classfiles onto disk for all compilation units that where successful
 // and do not carry a -d none spec, either directly or inherited from Main.
 public void outputClassFiles(CompilationResult unitResult) {
+	if (this.incrementalCompilation != null && unitResult != null)
+		this.incrementalCompilation.acceptResult(unitResult, !unitResult.hasErrors() || this.proceedOnError);
 	if (!((unitResult == null) || (unitResult.hasErrors() && !this.proceedOnError))) {
 		ClassFile[] classFiles = unitResult.getClassFiles();
 		String currentDestinationPath = null;
@@ -4640,6 +4891,7 @@ public void outputClassFiles(CompilationResult unitResult) {
 			generateClasspathStructure = true;
 		} // else leave currentDestinationPath null
 		if (currentDestinationPath != null) {
+			boolean generateJar = generateClasspathStructure && isJarDestination(currentDestinationPath);
 			for (ClassFile classFile : classFiles) {
 				char[] filename = classFile.fileName();
 				int length = filename.length;
@@ -4657,11 +4909,20 @@ public void outputClassFiles(CompilationResult unitResult) {
 									String.valueOf(this.exportedClassFilesCounter+1),
 									relativeStringName
 								}));
-					Util.writeToDisk(
-						generateClasspathStructure,
-						currentDestinationPath,
-						relativeStringName,
-						classFile);
+					if (generateJar) {
+						if (this.classFileJarWriter == null)
+							this.classFileJarWriter = new ClassFileJarWriter();
+						this.classFileJarWriter.write(
+							currentDestinationPath,
+							relativeStringName.replace(File.separatorChar, '/'),
+							classFile);
+					} else {
+						Util.writeToDisk(
+							generateClasspathStructure,
+							currentDestinationPath,
+							relativeStringName,
+							classFile);
+					}
 					this.logger.logClassFile(
 						generateClasspathStructure,
 						currentDestinationPath,
@@ -4680,7 +4941,431 @@ public void outputClassFiles(CompilationResult unitResult) {
  */
 public void performCompilation() {
 	this.startTime = System.currentTimeMillis();
+	this.jarDestinations.clear(); // jars and directories may have been created or deleted since the last compilation
+	if (this.incrementalStateFile != null) {
+		performIncrementalCompilation();
+		return;
+	}
+	if (this.sourceModuleLocations != null
+			&& Boolean.getBoolean("jdt.compiler.parallelModules") //$NON-NLS-1$
+			&& performParallelModuleCompilation()) {
+		return;
+	}
+	int workerCount = Integer.getInteger("jdt.compiler.processingWorkers", 1).intValue(); //$NON-NLS-1$
+	if (workerCount > 1 && performParallelUnitCompilation(workerCount)) {
+		return;
+	}
+	compileUnits(true);
+}
+/*
+ * Compiles the modules of the module source path concurrently, each with a compiler and name environment of its own,
+ * as soon as the source modules it requires are compiled. The class files of these are then read from their
+ * destination directories, through locations shared by all the modules requiring them. The classpath lookups of all
+ * the modules are serialized (see SharedLocationsFileSystem).
+ * Answers false without compiling anything if the compilation cannot be split by module: annotation processing is
+ * enabled, class files are not written to directories, a unit is not in a source module, or a required source module
+ * has no units to compile.
+ */
+private boolean performParallelModuleCompilation() {
+	if (CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_Process_Annotations))
+			|| this.progress != null || this.filenames == null) {
+		return false;
+	}
+	if (this.destinationPath == null || this.destinationPath == NONE || isJarDestination(this.destinationPath)) {
+		return false; // required modules are read from the class files written to their destination directory
+	}
+	Map<String, Classpath> locations = new HashMap<>();
+	for (Classpath location : this.sourceModuleLocations) {
+		IModule sourceModule = location.getModule();
+		if (sourceModule == null || location.getDestinationPath() == null)
+			return false;
+		locations.put(String.valueOf(sourceModule.name()), location);
+	}
+	Map<String, List<CompilationUnit>> unitsByModule = new HashMap<>();
+	for (CompilationUnit unit : getCompilationUnits()) {
+		String moduleName = unit.module == null ? null : String.valueOf(unit.module);
+		if (!locations.containsKey(moduleName))
+			return false;
+		unitsByModule.computeIfAbsent(moduleName, name -> new ArrayList<>()).add(unit);
+	}
+	if (unitsByModule.size() < 2)
+		return false;
+	// order the modules so that each comes after the modules it requires
+	Map<String, List<String>> requiredModules = new HashMap<>();
+	for (String moduleName : unitsByModule.keySet()) {
+		List<String> required = new ArrayList<>();
+		for (IModule.IModuleReference reference : locations.get(moduleName).getModule().requires()) {
+			String requiredName = String.valueOf(reference.name());
+			if (locations.containsKey(requiredName)) {
+				if (!unitsByModule.containsKey(requiredName))
+					return false; // its sources would be compiled on demand, by each module requiring it
+				required.add(requiredName);
+			}
+		}
+		requiredModules.put(moduleName, required);
+	}
+	List<String> orderedModules = new ArrayList<>();
+	Map<String, Set<String>> allRequiredModules = new HashMap<>();
+	List<String> moduleNames = new ArrayList<>(unitsByModule.keySet());
+	Collections.sort(moduleNames);
+	for (String moduleName : moduleNames) {
+		if (!orderModule(moduleName, requiredModules, allRequiredModules, orderedModules, new HashSet<>()))
+			return false; // cycle, reported by the compiler
+	}
 
+	this.compilerOptions = new CompilerOptions(this.options);
+	this.compilerOptions.verbose = this.verbose;
+	Object lock = new Object();
+	Map<String, CompletableFuture<Classpath>> outputs = new HashMap<>();
+	List<Compiler> compilers = Collections.synchronizedList(new ArrayList<>());
+	ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(orderedModules.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+				Thread thread = new Thread(runnable, "Module Compilation Task"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+	Throwable failure = null;
+	this.logger.startLoggingSources();
+	try {
+		for (String moduleName : orderedModules) {
+			CompletableFuture<?>[] required = requiredModules.get(moduleName).stream()
+					.map(outputs::get)
+					.toArray(CompletableFuture[]::new);
+			outputs.put(moduleName, CompletableFuture.allOf(required).thenApplyAsync(ignored -> {
+				List<Classpath> requiredOutputs = new ArrayList<>();
+				for (String requiredName : allRequiredModules.get(moduleName)) {
+					Classpath output = outputs.get(requiredName).join();
+					if (output == null)
+						return null; // a required module has errors
+					requiredOutputs.add(output);
+				}
+				return compileModule(locations.get(moduleName), unitsByModule.get(moduleName), requiredOutputs, lock, compilers);
+			}, executor));
+		}
+		for (String moduleName : orderedModules) {
+			try {
+				outputs.get(moduleName).join();
+			} catch (CompletionException e) {
+				if (failure == null)
+					failure = e.getCause() instanceof RuntimeException || e.getCause() instanceof Error ? e.getCause() : e;
+			}
+		}
+	} finally {
+		this.logger.endLoggingSources();
+		executor.shutdownNow();
+		closeClassFileJars();
+		for (Classpath classpath : this.checkedClasspaths)
+			classpath.reset();
+	}
+	if (failure instanceof Error)
+		throw (Error) failure;
+	if (failure != null)
+		throw (RuntimeException) failure;
+
+	if (!compilers.isEmpty()) {
+		CompilerStats stats = new CompilerStats();
+		if ((this.timing & TIMING_DETAILED) != 0)
+			stats.collectUnitStats();
+		for (Compiler compiler : compilers)
+			stats.add(compiler.stats);
+		this.batchCompiler = compilers.get(0);
+		this.batchCompiler.stats = stats;
+		if (this.compilerStats != null) {
+			this.compilerStats[this.currentRepetition] = stats;
+		}
+		this.logger.printStats();
+	}
+	return true;
+}
+/*
+ * Adds the given module to orderedModules after the modules it requires, and records all the modules it requires,
+ * directly or not. Answers false if the module requires itself.
+ */
+private boolean orderModule(String moduleName, Map<String, List<String>> requiredModules,
+		Map<String, Set<String>> allRequiredModules, List<String> orderedModules, Set<String> visiting) {
+	if (allRequiredModules.containsKey(moduleName))
+		return true;
+	if (!visiting.add(moduleName))
+		return false;
+	Set<String> allRequired = new LinkedHashSet<>();
+	for (String requiredName : requiredModules.get(moduleName)) {
+		if (!orderModule(requiredName, requiredModules, allRequiredModules, orderedModules, visiting))
+			return false;
+		allRequired.addAll(allRequiredModules.get(requiredName));
+		allRequired.add(requiredName);
+	}
+	allRequiredModules.put(moduleName, allRequired);
+	orderedModules.add(moduleName);
+	return true;
+}
+/*
+ * Compiles the units of a module against the class files of the source modules it requires, and answers the
+ * location of its class files, or null if it has errors
+ */
+private Classpath compileModule(Classpath location, List<CompilationUnit> units, List<Classpath> requiredOutputs,
+		Object lock, List<Compiler> compilers) {
+	List<Classpath> classpaths = new ArrayList<>();
+	for (Classpath classpath : this.checkedClasspaths) {
+		if (classpath == location || !this.sourceModuleLocations.contains(classpath))
+			classpaths.add(classpath);
+	}
+	classpaths.addAll(requiredOutputs);
+	String[] fileNames = new String[units.size()];
+	for (int i = 0; i < fileNames.length; i++)
+		fileNames[i] = String.valueOf(units.get(i).getFileName());
+	FileSystem environment;
+	synchronized (lock) {
+		environment = new SharedLocationsFileSystem(classpaths.toArray(new Classpath[classpaths.size()]), fileNames,
+				this.annotationsFromClasspath && CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_AnnotationBasedNullAnalysis)),
+				this.limitedModules, lock);
+		environment.module = this.module;
+		processAddonModuleOptions(environment);
+	}
+	CompilerOptions moduleOptions = new CompilerOptions(this.options);
+	moduleOptions.performMethodsFullRecovery = false;
+	moduleOptions.performStatementsRecovery = false;
+	moduleOptions.verbose = this.verbose;
+	moduleOptions.produceReferenceInfo = this.produceRefInfo;
+	ICompilerRequestor requestor = getBatchRequestor();
+	Compiler[] compiler = new Compiler[1];
+	boolean[] hasErrors = new boolean[1];
+	compiler[0] = new Compiler(
+			environment,
+			getHandlingPolicy(),
+			moduleOptions,
+			result -> {
+				// results are output one at a time, by the compiler which produced them
+				synchronized (lock) {
+					this.batchCompiler = compiler[0];
+					requestor.acceptResult(result);
+					hasErrors[0] |= result.hasErrors();
+				}
+			},
+			getProblemFactory(),
+			this.out,
+			null);
+	compiler[0].remainingIterations = this.maxRepetition-this.currentRepetition/*remaining iterations including this one*/;
+	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
+	compiler[0].useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	if ((this.timing & TIMING_DETAILED) != 0) {
+		compiler[0].stats.collectUnitStats();
+	}
+	compilers.add(compiler[0]);
+	compiler[0].compile(units.toArray(new CompilationUnit[units.size()]));
+	if (hasErrors[0] && !this.proceedOnError)
+		return null;
+	synchronized (lock) {
+		return ModuleFinder.findModule(new File(location.getDestinationPath()), null, null, this.options, true, this.releaseVersion);
+	}
+}
+/*
+ * Compiles the units on several workers, each with a compiler and name environment of its own, so that no lookup
+ * environment is shared between threads. Every worker parses all the units and builds the bindings of their types, but
+ * only resolves, analyzes and generates the units it claims before the other workers. The results are accepted on the
+ * calling thread in the order of the units, followed by the results of the units found on the source path. The
+ * classpath lookups of all the workers are serialized (see SharedLocationsFileSystem).
+ * Answers false without compiling anything if the compilation cannot be split by unit: annotation processing is
+ * enabled, the compilation is verbose or reports its progress, external annotations are looked up on the classpath,
+ * two units have the same file name, or methods which can be static are reported. A method is found not to be static
+ * because of the method references of the units resolved before its own, which differ between workers.
+ */
+private boolean performParallelUnitCompilation(int workerCount) {
+	if (CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_Process_Annotations))
+			|| this.progress != null || this.verbose || this.annotationsFromClasspath
+			|| this.filenames == null || this.filenames.length < 2) {
+		return false;
+	}
+	this.compilerOptions = new CompilerOptions(this.options);
+	this.compilerOptions.verbose = this.verbose;
+	if (this.compilerOptions.getSeverity(CompilerOptions.MethodCanBeStatic) != ProblemSeverities.Ignore
+			|| this.compilerOptions.getSeverity(CompilerOptions.MethodCanBePotentiallyStatic) != ProblemSeverities.Ignore) {
+		return false;
+	}
+	CompilationUnit[] units = getCompilationUnits();
+	if (this.compilerOptions.complianceLevel >= ClassFileConstants.JDK9)
+		Compiler.sortModuleDeclarationsFirst(units); // as the compilers of the workers do
+	Map<String, Integer> indexes = new HashMap<>();
+	for (int i = 0; i < units.length; i++) {
+		if (indexes.put(String.valueOf(units[i].getFileName()), i) != null)
+			return false;
+	}
+
+	UnitResults results = new UnitResults(units, indexes, workerCount);
+	Object lock = new Object();
+	List<Compiler> compilers = new ArrayList<>();
+	for (int i = 0; i < workerCount; i++)
+		compilers.add(newWorkerCompiler(i, results, lock));
+	ExecutorService executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+		Thread thread = new Thread(runnable, "Unit Compilation Task"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+	List<Future<?>> workers = new ArrayList<>();
+	Throwable failure = null;
+	this.logger.startLoggingSources();
+	try {
+		for (int i = 0; i < workerCount; i++) {
+			int worker = i;
+			CompilationUnit[] workerUnits = getCompilationUnits(); // the units cache the module of their first compiler
+			workers.add(executor.submit(() -> {
+				boolean failed = true;
+				try {
+					compilers.get(worker).compile(workerUnits);
+					failed = false;
+				} finally {
+					results.finish(worker, failed);
+				}
+			}));
+		}
+		ICompilerRequestor requestor = getBatchRequestor();
+		int[] producer = new int[1];
+		try {
+			CompilationResult result;
+			while ((result = results.next(producer)) != null) {
+				this.batchCompiler = compilers.get(producer[0]); // releases the class files into the right pool
+				requestor.acceptResult(result);
+			}
+		} catch (InterruptedException e) {
+			throw new AbortCompilation(true/* silent */, new RuntimeException(e));
+		}
+		for (Future<?> worker : workers) {
+			try {
+				worker.get();
+			} catch (ExecutionException e) {
+				if (failure == null)
+					failure = e.getCause() instanceof RuntimeException || e.getCause() instanceof Error ? e.getCause() : e;
+			} catch (InterruptedException e) {
+				if (failure == null)
+					failure = new AbortCompilation(true/* silent */, new RuntimeException(e));
+			}
+		}
+	} finally {
+		results.cancel();
+		this.logger.endLoggingSources();
+		executor.shutdownNow();
+		closeClassFileJars();
+		for (Classpath classpath : this.checkedClasspaths)
+			classpath.reset();
+	}
+	if (failure instanceof Error)
+		throw (Error) failure;
+	if (failure != null)
+		throw (RuntimeException) failure;
+
+	if (this.extraProblems != null) {
+		loggingExtraProblems();
+		this.extraProblems = null;
+	}
+	CompilerStats stats = new CompilerStats();
+	if ((this.timing & TIMING_DETAILED) != 0)
+		stats.collectUnitStats();
+	for (Compiler compiler : compilers)
+		stats.add(compiler.stats);
+	this.batchCompiler = compilers.get(0);
+	this.batchCompiler.stats = stats;
+	if (this.compilerStats != null) {
+		this.compilerStats[this.currentRepetition] = stats;
+	}
+	this.logger.printStats();
+	return true;
+}
+/*
+ * Answers the compiler of a worker, which processes the units it claims and adds their results to the given ones
+ */
+private Compiler newWorkerCompiler(int worker, UnitResults results, Object lock) {
+	FileSystem environment;
+	synchronized (lock) {
+		environment = new SharedLocationsFileSystem(this.checkedClasspaths, this.filenames, false, this.limitedModules, lock);
+		environment.module = this.module;
+		processAddonModuleOptions(environment);
+	}
+	CompilerOptions workerOptions = new CompilerOptions(this.options);
+	workerOptions.performMethodsFullRecovery = false;
+	workerOptions.performStatementsRecovery = false;
+	workerOptions.verbose = this.verbose;
+	workerOptions.produceReferenceInfo = this.produceRefInfo;
+	Compiler compiler = new Compiler(
+			environment,
+			getHandlingPolicy(),
+			workerOptions,
+			result -> results.add(result, worker),
+			getProblemFactory(),
+			this.out,
+			null);
+	compiler.remainingIterations = this.maxRepetition-this.currentRepetition/*remaining iterations including this one*/;
+	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
+	compiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	if ((this.timing & TIMING_DETAILED) != 0) {
+		compiler.stats.collectUnitStats();
+	}
+	compiler.unitClaim = unit -> results.claim(unit, worker);
+	return compiler;
+}
+/*
+ * Compiles the units which changed since the previous compilation into the destination directory, then, round by
+ * round, the units affected by the changes, and saves the state for the next compilation
+ */
+private void performIncrementalCompilation() {
+	String[] allFilenames = this.filenames;
+	String[] allEncodings = this.encodings;
+	String[] allDestinationPaths = this.destinationPaths;
+	String[] allModNames = this.modNames;
+	this.batchCompiler = null;
+	this.incrementalCompilation = new IncrementalCompilation(new File(this.incrementalStateFile), this.destinationPath,
+			this.options, this.checkedClasspaths);
+	CompilerStats stats = new CompilerStats(); // of all the rounds
+	if ((this.timing & TIMING_DETAILED) != 0)
+		stats.collectUnitStats();
+	try {
+		boolean[] toCompile = this.incrementalCompilation.start(allFilenames == null ? new String[0] : allFilenames);
+		do {
+			int count = 0;
+			for (boolean unit : toCompile) {
+				if (unit)
+					count++;
+			}
+			if (count == 0)
+				break;
+			this.filenames = new String[count];
+			this.encodings = new String[count];
+			this.destinationPaths = new String[count];
+			this.modNames = new String[count];
+			for (int i = 0, j = 0; i < toCompile.length; i++) {
+				if (toCompile[i]) {
+					this.filenames[j] = allFilenames[i];
+					this.encodings[j] = allEncodings[i];
+					this.destinationPaths[j] = allDestinationPaths[i];
+					this.modNames[j++] = allModNames[i];
+				}
+			}
+			this.incrementalCompilation.beginRound(toCompile);
+			compileUnits(false);
+			stats.add(this.batchCompiler.stats);
+		} while ((toCompile = this.incrementalCompilation.endRound()) != null);
+		try {
+			this.incrementalCompilation.save();
+		} catch (IOException e) {
+			this.logger.logWarning(this.bind("output.noIncrementalState", this.incrementalStateFile, e.getMessage())); //$NON-NLS-1$
+		}
+	} finally {
+		this.filenames = allFilenames;
+		this.encodings = allEncodings;
+		this.destinationPaths = allDestinationPaths;
+		this.modNames = allModNames;
+		this.incrementalCompilation = null;
+	}
+	if (this.batchCompiler != null) {
+		this.batchCompiler.stats = stats;
+		if (this.compilerStats != null) {
+			this.compilerStats[this.currentRepetition] = stats;
+		}
+		this.logger.printStats();
+	}
+}
+/*
+ * Compiles the units of this.filenames, printing the statistics of the compilation if requested
+ */
+private void compileUnits(boolean printStats) {
 	FileSystem environment = getLibraryAccess();
 	try {
 		this.compilerOptions = new CompilerOptions(this.options);
@@ -4699,6 +5384,9 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		if ((this.timing & TIMING_DETAILED) != 0) {
+			this.batchCompiler.stats.collectUnitStats();
+		}
 
 		if (this.compilerOptions.processAnnotations) {
 			initializeAnnotationProcessorManager();
@@ -4710,7 +5398,7 @@ public void performCompilation() {
 
 		// set the non-externally configurable options.
 		this.compilerOptions.verbose = this.verbose;
-		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
+		this.compilerOptions.produceReferenceInfo = this.produceRefInfo || this.incrementalCompilation != null;
 		try {
 			this.logger.startLoggingSources();
 			this.batchCompiler.compile(getCompilationUnits());
@@ -4722,16 +5410,31 @@ public void performCompilation() {
 			loggingExtraProblems();
 			this.extraProblems = null;
 		}
-		if (this.compilerStats != null) {
-			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
+		if (printStats) {
+			if (this.compilerStats != null) {
+				this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
+			}
+			this.logger.printStats();
 		}
-		this.logger.printStats();
 	}
 	finally {
 	// cleanup
+		closeClassFileJars();
 		environment.cleanup();
 	}
 }
+private boolean isJarDestination(String path) {
+	return this.jarDestinations.computeIfAbsent(path, ClassFileJarWriter::isJarDestination);
+}
+private void closeClassFileJars() {
+	if (this.classFileJarWriter == null)
+		return;
+	for (Map.Entry<String, IOException> failure : this.classFileJarWriter.close().entrySet()) {
+		File jar = new File(failure.getKey());
+		this.logger.logNoClassFileCreated(jar.getAbsoluteFile().getParent(), jar.getName(), failure.getValue());
+	}
+	this.classFileJarWriter = null;
+}
 protected void loggingExtraProblems() {
 	this.logger.loggingExtraProblems(this);
 }
@@ -5210,6 +5913,7 @@ protected void setPaths(ArrayList<String> bootclasspaths,
 	List<FileSystem.Classpath> mp = handleModulepath(modulePath);
 
 	List<FileSystem.Classpath> msp = handleModuleSourcepath(moduleSourcepath);
+	this.sourceModuleLocations = msp.isEmpty() ? null : msp;
 
 	ArrayList<FileSystem.Classpath> sourcepaths = new ArrayList<>();
 	if (sourcepathClasspathArg != null) {
@@ -5255,6 +5959,34 @@ protected void setPaths(ArrayList<String> bootclasspaths,
 		}
 	}
 }
+/*
+ * Checks that the compilation can be incremental, and puts the destination directory first on the classpath, so
+ * that the types of the units which are not compiled are found in their class files
+ */
+private void validateIncrementalOptions(String moduleSourcepathArg) {
+	if (this.destinationPath == null || this.destinationPath == NONE
+			|| ClassFileJarWriter.isJarDestination(this.destinationPath)) {
+		throw new IllegalArgumentException(this.bind("configure.incrementalRequires", "-d <directory>")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+	if (this.filenames != null) {
+		for (String path : this.destinationPaths) {
+			if (path != null)
+				throw new IllegalArgumentException(this.bind("configure.incrementalRequires", "-d <directory>")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+	if (CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_Process_Annotations))) {
+		throw new IllegalArgumentException(this.bind("configure.incrementalRequires", "-proc:none")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+	if (moduleSourcepathArg != null || this.module != null) {
+		throw new IllegalArgumentException(this.bind("configure.incrementalModules")); //$NON-NLS-1$
+	}
+	File destination = new File(this.destinationPath);
+	destination.mkdirs();
+	Classpath[] classpaths = new Classpath[this.checkedClasspaths.length + 1];
+	classpaths[0] = new ClasspathDirectory(destination, null, ClasspathLocation.BINARY, null, null, this.options);
+	System.arraycopy(this.checkedClasspaths, 0, classpaths, 1, this.checkedClasspaths.length);
+	this.checkedClasspaths = classpaths;
+}
 public final static boolean shouldIgnoreOptionalProblems(char[][] folderNames, char[] fileName) {
 	if (folderNames == null || fileName == null) {
 		return false;
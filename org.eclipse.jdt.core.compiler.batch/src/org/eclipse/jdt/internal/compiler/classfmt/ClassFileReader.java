@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,10 +50,12 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int constantPoolCount;
 	private AnnotationInfo[] annotations;
 	private TypeAnnotationInfo[] typeAnnotations;
-	private FieldInfo[] fields;
+	// fields and methods of readers of the run-time image are decoded on first access, see #getFields() and #getMethods()
+	private volatile FieldInfo[] fields;
 	private ModuleInfo moduleDeclaration;
 	public char[] moduleName;
 	private final int fieldsCount;
+	private final int fieldsOffset;
 
 	// initialized in case the .class file is a nested type
 	private InnerClassInfo innerInfo;
@@ -62,8 +64,9 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int interfacesCount;
 	private char[][] permittedSubtypesNames;
 	private int permittedSubtypesCount;
-	private MethodInfo[] methods;
+	private volatile MethodInfo[] methods;
 	private final int methodsCount;
+	private final int methodsOffset;
 	private final char[] signature;
 	private char[] sourceName;
 	private final char[] sourceFileName;
@@ -162,9 +165,7 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 		return null;
 	}
 	try (InputStream stream = zip.getInputStream(ze)) {
-		URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
-		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream),
-				filename.toCharArray());
+		ClassFileReader classFileReader = read(zip, filename, Util.getInputStreamAsByteArray(stream));
 		if (fullyInitialize) {
 			classFileReader.initialize();
 		}
@@ -172,6 +173,27 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 	}
 }
 
+/**
+ * Answers a reader for the given, already read contents of the zip entry <code>filename</code>.
+ */
+public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, byte[] classFileBytes)
+		throws ClassFormatException {
+	URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
+	return new ClassFileReader(uri, classFileBytes, filename.toCharArray());
+}
+
+/**
+ * Same as {@link #read(java.util.zip.ZipFile, String, byte[])}, fully initializing the reader if asked to.
+ */
+public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, byte[] classFileBytes, boolean fullyInitialize)
+		throws ClassFormatException {
+	ClassFileReader classFileReader = read(zip, filename, classFileBytes);
+	if (fullyInitialize) {
+		classFileReader.initialize();
+	}
+	return classFileReader;
+}
+
 /**
  * same as <code>new java.io.File(absoluteNormalFilePath).toURI()</code> if absoluteNormalFilePath is not a directory
  * but faster because it avoid IO for the isDirectory check.
@@ -196,6 +218,20 @@ public static ClassFileReader read(String fileName, boolean fullyInitialize) thr
 	return read(new File(fileName), fullyInitialize);
 }
 
+/**
+ * Answers a reader for a class file of the run-time image of a JDK, as {@link #ClassFileReader(URI, byte[], char[])}
+ * does. These class files are well formed, so their fields and methods are not decoded (nor checked) until they are
+ * asked for, which makes readers of which only the header is used cheaper. A malformed member would then fail with an
+ * unchecked exception, rather than with a ClassFormatException from this method.
+ */
+public static ClassFileReader readFromRuntimeImage(URI path, byte[] classFileBytes, char[] fileName) throws ClassFormatException {
+	ClassFileReader reader = new ClassFileReader(classFileBytes, fileName, false, true);
+	reader.path = path;
+	if (reader.moduleDeclaration != null)
+		reader.moduleDeclaration.path = path;
+	return reader;
+}
+
 /**
  * hint: Use {@link #ClassFileReader(URI, byte[], char[])} where an annotation processor might be in the picture
  *
@@ -235,6 +271,13 @@ public ClassFileReader(URI path, byte classFileBytes[], char[] fileName) throws
  * @exception ClassFormatException
  */
 public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInitialize) throws ClassFormatException {
+	this(classFileBytes, fileName, fullyInitialize, false);
+}
+
+/*
+ * lazyMembers: only skip the fields and methods, they are decoded on first access (see #readFromRuntimeImage)
+ */
+private ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInitialize, boolean lazyMembers) throws ClassFormatException {
 	// This method looks ugly but is actually quite simple, the constantPool is constructed
 	// in 3 passes.  All non-primitive constant pool members that usually refer to other members
 	// by index are tweaked to have their value in inst vars, this minor cost at read-time makes
@@ -368,7 +411,10 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 		// Read the fields, use exception handlers to catch bad format
 		this.fieldsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.fieldsCount != 0) {
+		this.fieldsOffset = readOffset;
+		if (lazyMembers) {
+			readOffset = skipMembers(readOffset, this.fieldsCount);
+		} else if (this.fieldsCount != 0) {
 			FieldInfo field;
 			this.fields = new FieldInfo[this.fieldsCount];
 			for (int i = 0; i < this.fieldsCount; i++) {
@@ -380,7 +426,10 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 		// Read the methods
 		this.methodsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.methodsCount != 0) {
+		this.methodsOffset = readOffset;
+		if (lazyMembers) {
+			readOffset = skipMembers(readOffset, this.methodsCount);
+		} else if (this.methodsCount != 0) {
 			this.methods = new MethodInfo[this.methodsCount];
 			boolean isAnnotationType = (accessFlag & ClassFileConstants.AccAnnotation) != 0;
 			for (int i = 0; i < this.methodsCount; i++) {
@@ -540,6 +589,43 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 	}
 }
 
+/*
+ * Answers the offset behind the given number of field_info or method_info structures starting at readOffset, without
+ * decoding them.
+ */
+private int skipMembers(int readOffset, int count) {
+	for (int i = 0; i < count; i++) {
+		int attributesCount = u2At(readOffset + 6);
+		readOffset += 8;
+		for (int j = 0; j < attributesCount; j++)
+			readOffset += 6 + u4At(readOffset + 2);
+	}
+	return readOffset;
+}
+
+private FieldInfo[] decodeFields() {
+	FieldInfo[] infos = new FieldInfo[this.fieldsCount];
+	int readOffset = this.fieldsOffset;
+	for (int i = 0; i < this.fieldsCount; i++) {
+		infos[i] = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
+		readOffset += infos[i].sizeInBytes();
+	}
+	return infos;
+}
+
+private MethodInfo[] decodeMethods() {
+	MethodInfo[] infos = new MethodInfo[this.methodsCount];
+	boolean isAnnotationType = (this.accessFlags & ClassFileConstants.AccAnnotation) != 0;
+	int readOffset = this.methodsOffset;
+	for (int i = 0; i < this.methodsCount; i++) {
+		infos[i] = isAnnotationType
+			? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
+			: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
+		readOffset += infos[i].sizeInBytes();
+	}
+	return infos;
+}
+
 private void decodeRecords(int readOffset, char[] attributeName) {
 	if (CharOperation.equals(attributeName, AttributeNamesConstants.RecordClass)) {
 		this.isRecord = true;
@@ -711,11 +797,17 @@ public char[] getEnclosingTypeName() {
 
 /**
  * Answer the receiver's this.fields or null if the array is empty.
+ * The field infos of a reader of the run-time image are decoded on the first call.
  * @return org.eclipse.jdt.internal.compiler.api.IBinaryField[]
  */
 @Override
 public IBinaryField[] getFields() {
-	return this.fields;
+	FieldInfo[] infos = this.fields;
+	if (infos == null && this.fieldsCount != 0) {
+		// racing threads decode equal infos from the same bytes, any of them may win
+		this.fields = infos = decodeFields();
+	}
+	return infos;
 }
 /**
  * @see IBinaryType#getModule()
@@ -835,11 +927,16 @@ public IBinaryNestedType[] getMemberTypes() {
 
 /**
  * Answer the receiver's this.methods or null if the array is empty.
+ * The method infos of a reader of the run-time image are decoded on the first call.
  * @return org.eclipse.jdt.internal.compiler.api.env.IBinaryMethod[]
  */
 @Override
 public IBinaryMethod[] getMethods() {
-	return this.methods;
+	MethodInfo[] infos = this.methods;
+	if (infos == null && this.methodsCount != 0) {
+		this.methods = infos = decodeMethods();
+	}
+	return infos;
 }
 
 /*
@@ -1119,13 +1216,14 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 		}
 
 		// fields
+		FieldInfo[] fieldInfos = (FieldInfo[]) getFields();
 		FieldInfo[] otherFieldInfos = (FieldInfo[]) newClassFile.getFields();
 		int otherFieldInfosLength = otherFieldInfos == null ? 0 : otherFieldInfos.length;
 		boolean compareFields = true;
 		if (this.fieldsCount == otherFieldInfosLength) {
 			int i = 0;
 			for (; i < this.fieldsCount; i++)
-				if (hasStructuralFieldChanges(this.fields[i], otherFieldInfos[i])) break;
+				if (hasStructuralFieldChanges(fieldInfos[i], otherFieldInfos[i])) break;
 			if ((compareFields = i != this.fieldsCount) && !orderRequired && !excludesSynthetic)
 				return true;
 		}
@@ -1134,28 +1232,29 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 				return true;
 			if (orderRequired) {
 				if (this.fieldsCount != 0)
-					Arrays.sort(this.fields);
+					Arrays.sort(fieldInfos);
 				if (otherFieldInfosLength != 0)
 					Arrays.sort(otherFieldInfos);
 			}
 			if (excludesSynthetic) {
-				if (hasNonSyntheticFieldChanges(this.fields, otherFieldInfos))
+				if (hasNonSyntheticFieldChanges(fieldInfos, otherFieldInfos))
 					return true;
 			} else {
 				for (int i = 0; i < this.fieldsCount; i++)
-					if (hasStructuralFieldChanges(this.fields[i], otherFieldInfos[i]))
+					if (hasStructuralFieldChanges(fieldInfos[i], otherFieldInfos[i]))
 						return true;
 			}
 		}
 
 		// methods
+		MethodInfo[] methodInfos = (MethodInfo[]) getMethods();
 		MethodInfo[] otherMethodInfos = (MethodInfo[]) newClassFile.getMethods();
 		int otherMethodInfosLength = otherMethodInfos == null ? 0 : otherMethodInfos.length;
 		boolean compareMethods = true;
 		if (this.methodsCount == otherMethodInfosLength) {
 			int i = 0;
 			for (; i < this.methodsCount; i++)
-				if (hasStructuralMethodChanges(this.methods[i], otherMethodInfos[i])) break;
+				if (hasStructuralMethodChanges(methodInfos[i], otherMethodInfos[i])) break;
 			if ((compareMethods = i != this.methodsCount) && !orderRequired && !excludesSynthetic)
 				return true;
 		}
@@ -1164,16 +1263,16 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 				return true;
 			if (orderRequired) {
 				if (this.methodsCount != 0)
-					Arrays.sort(this.methods);
+					Arrays.sort(methodInfos);
 				if (otherMethodInfosLength != 0)
 					Arrays.sort(otherMethodInfos);
 			}
 			if (excludesSynthetic) {
-				if (hasNonSyntheticMethodChanges(this.methods, otherMethodInfos))
+				if (hasNonSyntheticMethodChanges(methodInfos, otherMethodInfos))
 					return true;
 			} else {
 				for (int i = 0; i < this.methodsCount; i++)
-					if (hasStructuralMethodChanges(this.methods[i], otherMethodInfos[i]))
+					if (hasStructuralMethodChanges(methodInfos[i], otherMethodInfos[i]))
 						return true;
 			}
 		}
@@ -1393,11 +1492,13 @@ private boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
  */
 private void initialize() throws ClassFormatException {
 	try {
+		FieldInfo[] fieldInfos = (FieldInfo[]) getFields();
 		for (int i = 0, max = this.fieldsCount; i < max; i++) {
-			this.fields[i].initialize();
+			fieldInfos[i].initialize();
 		}
+		MethodInfo[] methodInfos = (MethodInfo[]) getMethods();
 		for (int i = 0, max = this.methodsCount; i < max; i++) {
-			this.methods[i].initialize();
+			methodInfos[i].initialize();
 		}
 		if (this.innerInfos != null) {
 			for (InnerClassInfo info : this.innerInfos) {
@@ -1409,6 +1510,14 @@ private void initialize() throws ClassFormatException {
 				annotation.initialize();
 			}
 		}
+		if (this.typeAnnotations != null) {
+			for (TypeAnnotationInfo typeAnnotation : this.typeAnnotations) {
+				typeAnnotation.initialize();
+			}
+		}
+		for (int i = 0, max = this.recordComponentsCount; i < max; i++) {
+			this.recordComponents[i].initialize();
+		}
 		this.getEnclosingMethod();
 		reset();
 	} catch(RuntimeException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
-import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
@@ -29,28 +28,12 @@ import org.eclipse.jdt.internal.compiler.lookup.TagBits;
 import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.lookup.TypeIds;
-import org.eclipse.jdt.internal.compiler.util.HashtableOfInteger;
-import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.eclipse.jdt.internal.compiler.util.Util;
 /**
  * This type is used to store all the constant pool entries.
  */
 public class ConstantPool implements ClassFileConstants, TypeIds {
-	private static final int METHODS_AND_FIELDS_INITIAL_SIZE = 450;
-	private static final int NAMEANDTYPE_INITIAL_SIZE = 272;
-	private static final int DYNAMIC_INITIAL_SIZE = 10;
-	protected DoubleCache doubleCache;
-	protected FloatCache floatCache;
-	protected IntegerCache intCache;
-	protected LongCache longCache;
-	public CharArrayCache UTF8Cache;
-	protected CharArrayCache stringCache;
-	protected HashtableOfObject methodsAndFieldsCache;
-	protected CharArrayCache classCache;
-	protected CharArrayCache moduleCache;
-	protected CharArrayCache packageCache;
-	protected HashtableOfObject nameAndTypeCacheForFieldsAndMethods;
-	protected HashtableOfInteger dynamicCache;
+	public ConstantPoolCache cache;
 	public byte[] poolContent;
 	public int currentIndex = 1;
 	public int currentOffset;
@@ -380,14 +363,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	 * ConstantPool constructor comment.
 	 */
 	public ConstantPool(ClassFile classFile) {
-		this.UTF8Cache = new CharArrayCache();
-		this.stringCache = new CharArrayCache();
-		this.methodsAndFieldsCache = new HashtableOfObject(METHODS_AND_FIELDS_INITIAL_SIZE);
-		this.classCache = new CharArrayCache();
-		this.moduleCache = new CharArrayCache();
-		this.packageCache = new CharArrayCache();
-		this.nameAndTypeCacheForFieldsAndMethods = new HashtableOfObject(NAMEANDTYPE_INITIAL_SIZE);
-		this.dynamicCache = new HashtableOfInteger(DYNAMIC_INITIAL_SIZE);
+		this.cache = new ConstantPoolCache();
 		this.offsets = new int[5];
 		initialize(classFile);
 	}
@@ -407,7 +383,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndex(byte[] utf8encoding, char[] stringCharArray) {
 		int index;
-		if ((index = this.UTF8Cache.putIfAbsent(stringCharArray, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.UTF8, stringCharArray, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			if ((index = -index)> 0xFFFF) {
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
@@ -450,7 +426,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	 */
 	public int literalIndex(char[] utf8Constant) {
 		int index;
-		if ((index = this.UTF8Cache.putIfAbsent(utf8Constant, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.UTF8, utf8Constant, this.currentIndex)) < 0) {
 			if ((index = -index)> 0xFFFF) {
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 			}
@@ -510,7 +486,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndex(char[] stringCharArray, byte[] utf8encoding) {
 		int index;
-		if ((index = this.stringCache.putIfAbsent(stringCharArray, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.STRING, stringCharArray, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -550,12 +526,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		// The double constant takes two indexes into the constant pool, but we only store
 		// the first index into the long table
 		int index;
-		// lazy initialization for base type caches
-		// If it is null, initialize it, otherwise use it
-		if (this.doubleCache == null) {
-			this.doubleCache = new DoubleCache();
-		}
-		if ((index = this.doubleCache.putIfAbsent(key, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.DOUBLE, Double.doubleToLongBits(key), this.currentIndex)) < 0) {
 			if ((index = -index)> 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 			}
@@ -597,12 +568,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public int literalIndex(float key) {
 		//Retrieve the index from the cache
 		int index;
-		// lazy initialization for base type caches
-		// If it is null, initialize it, otherwise use it
-		if (this.floatCache == null) {
-			this.floatCache = new FloatCache();
-		}
-		if ((index = this.floatCache.putIfAbsent(key, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.FLOAT, Float.floatToIntBits(key), this.currentIndex)) < 0) {
 			if ((index = -index) > 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 			}
@@ -639,12 +605,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public int literalIndex(int key) {
 		//Retrieve the index from the cache
 		int index;
-		// lazy initialization for base type caches
-		// If it is null, initialize it, otherwise use it
-		if (this.intCache == null) {
-			this.intCache = new IntegerCache();
-		}
-		if ((index = this.intCache.putIfAbsent(key, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.INTEGER, key, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
@@ -682,12 +643,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		// The long constant takes two indexes into the constant pool, but we only store
 		// the first index into the long table
 		int index;
-		// lazy initialization for base type caches
-		// If it is null, initialize it, otherwise use it
-		if (this.longCache == null) {
-			this.longCache = new LongCache();
-		}
-		if ((index = this.longCache.putIfAbsent(key, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.LONG, key, this.currentIndex)) < 0) {
 			if ((index = -index) > 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 			}
@@ -725,7 +681,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public int literalIndex(String stringConstant) {
 		int index;
 		char[] stringCharArray = stringConstant.toCharArray();
-		if ((index = this.stringCache.putIfAbsent(stringCharArray, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.STRING, stringCharArray, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index  = -index)> 0xFFFF){
@@ -753,7 +709,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForModule(final char[] moduleName) {
 		int index;
-		if ((index = this.moduleCache.putIfAbsent(moduleName, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.MODULE, moduleName, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -782,7 +738,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForPackage(final char[] packageName) {
 		int index;
-		if ((index = this.packageCache.putIfAbsent(packageName, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.PACKAGE, packageName, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -811,7 +767,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForType(final char[] constantPoolName) {
 		int index;
-		if ((index = this.classCache.putIfAbsent(constantPoolName, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.CLASS, constantPoolName, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -851,7 +807,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForMethod(char[] declaringClass, char[] selector, char[] signature, boolean isInterface) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, selector, signature, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.FIELD_OR_METHOD, declaringClass, selector, signature, 0, this.currentIndex)) < 0) {
 			// it doesn't exist yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -891,7 +847,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForNameAndType(char[] name, char[] signature) {
 		int index;
-		if ((index = putInNameAndTypeCacheIfAbsent(name, signature, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.NAME_AND_TYPE, name, signature, null, 0, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -984,7 +940,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	private int literalIndexForInvokeAndConstantDynamic(int bootStrapIndex, char[] selector, char[] descriptor, int tag) {
 		int index;
-		if ((index = putInDynamicCacheIfAbsent(bootStrapIndex, selector, descriptor, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.DYNAMIC, selector, descriptor, null, bootStrapIndex, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
@@ -1021,7 +977,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForField(char[] declaringClass, char[] name, char[] signature) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, name, signature, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.FIELD_OR_METHOD, declaringClass, name, signature, 0, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			// doesn't exist yet
 			if ((index = -index) > 0xFFFF){
@@ -1062,7 +1018,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		int savedCurrentIndex = this.currentIndex;
 		int savedCurrentOffset = this.currentOffset;
 		int index;
-		if ((index = this.stringCache.putIfAbsent(stringCharArray, this.currentIndex)) < 0) {
+		if ((index = this.cache.putIfAbsent(ConstantPoolCache.STRING, stringCharArray, this.currentIndex)) < 0) {
 			if ((index = -index)> 0xFFFF) {
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 			}
@@ -1085,7 +1041,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 			this.currentOffset+=2;
 
 			int stringIndex;
-			if ((stringIndex = this.UTF8Cache.putIfAbsent(stringCharArray, this.currentIndex)) < 0) {
+			if ((stringIndex = this.cache.putIfAbsent(ConstantPoolCache.UTF8, stringCharArray, this.currentIndex)) < 0) {
 				if ((stringIndex = -stringIndex)> 0xFFFF) {
 					this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
 				}
@@ -1146,8 +1102,8 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 				if (length >= 65535) {
 					this.currentOffset = savedCurrentOffset;
 					this.currentIndex = savedCurrentIndex;
-					this.stringCache.remove(stringCharArray);
-					this.UTF8Cache.remove(stringCharArray);
+					this.cache.remove(ConstantPoolCache.STRING, stringCharArray);
+					this.cache.remove(ConstantPoolCache.UTF8, stringCharArray);
 					return 0;
 				}
 				this.poolContent[lengthOffset++] = (byte) (length >> 8);
@@ -1158,117 +1114,6 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		}
 		return index;
 	}
-	/**
-	 * @param key1 the given name
-	 * @param key2 the given signature
-	 * @param value the given index
-	 * @return the new index
-	 */
-	private int putInNameAndTypeCacheIfAbsent(final char[] key1, final char[] key2, int value) {
-		int index ;
-		Object key1Value = this.nameAndTypeCacheForFieldsAndMethods.get(key1);
-		if (key1Value == null) {
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key2, value);
-			index = -value;
-			this.nameAndTypeCacheForFieldsAndMethods.put(key1, cachedIndexEntry);
-		} else if (key1Value instanceof CachedIndexEntry) {
-			// adding a second entry
-			CachedIndexEntry entry = (CachedIndexEntry) key1Value;
-			if (CharOperation.equals(key2, entry.signature)) {
-				index = entry.index;
-			} else {
-				CharArrayCache charArrayCache = new CharArrayCache();
-				charArrayCache.putIfAbsent(entry.signature, entry.index);
-				index = charArrayCache.putIfAbsent(key2, value);
-				this.nameAndTypeCacheForFieldsAndMethods.put(key1, charArrayCache);
-			}
-		} else {
-			CharArrayCache charArrayCache = (CharArrayCache) key1Value;
-			index = charArrayCache.putIfAbsent(key2, value);
-		}
-		return index;
-	}
-
-	/**
-	 * @param bootstrapIndex the given bootstrap index
-	 * @param selector the given method selector
-	 * @param descriptor the given signature
-	 * @param value the new index
-	 * @return the given index
-	 */	private int putInDynamicCacheIfAbsent(int bootstrapIndex, final char[] selector, final char[] descriptor, final int value) {
-		int index;
-		HashtableOfObject key1Value = (HashtableOfObject) this.dynamicCache.get(bootstrapIndex);
-		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
-			this.dynamicCache.put(bootstrapIndex, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
-			index = -value;
-			key1Value.put(selector, cachedIndexEntry);
-		} else {
-			Object key2Value = key1Value.get(selector);
-			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
-				index = -value;
-				key1Value.put(selector, cachedIndexEntry);
-			} else if (key2Value instanceof CachedIndexEntry) {
-				// adding a second entry
-				CachedIndexEntry entry = (CachedIndexEntry) key2Value;
-				if (CharOperation.equals(descriptor, entry.signature)) {
-					index = entry.index;
-				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
-					charArrayCache.putIfAbsent(entry.signature, entry.index);
-					index = charArrayCache.putIfAbsent(descriptor, value);
-					key1Value.put(selector, charArrayCache);
-				}
-			} else {
-				CharArrayCache charArrayCache = (CharArrayCache) key2Value;
-				index = charArrayCache.putIfAbsent(descriptor, value);
-			}
-		}
-		return index;
-	}
-
-	/**
-	 * @param key1 the given declaring class name
-	 * @param key2 the given field name or method selector
-	 * @param key3 the given signature
-	 * @param value the new index
-	 * @return the given index
-	 */
-	private int putInCacheIfAbsent(final char[] key1, final char[] key2, final char[] key3, int value) {
-		int index;
-		HashtableOfObject key1Value = (HashtableOfObject) this.methodsAndFieldsCache.get(key1);
-		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
-			this.methodsAndFieldsCache.put(key1, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-			index = -value;
-			key1Value.put(key2, cachedIndexEntry);
-		} else {
-			Object key2Value = key1Value.get(key2);
-			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-				index = -value;
-				key1Value.put(key2, cachedIndexEntry);
-			} else if (key2Value instanceof CachedIndexEntry) {
-				// adding a second entry
-				CachedIndexEntry entry = (CachedIndexEntry) key2Value;
-				if (CharOperation.equals(key3, entry.signature)) {
-					index = entry.index;
-				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
-					charArrayCache.putIfAbsent(entry.signature, entry.index);
-					index = charArrayCache.putIfAbsent(key3, value);
-					key1Value.put(key2, charArrayCache);
-				}
-			} else {
-				CharArrayCache charArrayCache = (CharArrayCache) key2Value;
-				index = charArrayCache.putIfAbsent(key3, value);
-			}
-		}
-		return index;
-	}
 	/**
 	 * This method is used to clean the receiver in case of a clinit header is generated, but the
 	 * clinit has no code.
@@ -1278,14 +1123,14 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public void resetForClinit(int constantPoolIndex, int constantPoolOffset) {
 		this.currentIndex = constantPoolIndex;
 		this.currentOffset = constantPoolOffset;
-		if (this.UTF8Cache.get(AttributeNamesConstants.CodeName) >= constantPoolIndex) {
-			this.UTF8Cache.remove(AttributeNamesConstants.CodeName);
+		if (this.cache.get(ConstantPoolCache.UTF8, AttributeNamesConstants.CodeName) >= constantPoolIndex) {
+			this.cache.remove(ConstantPoolCache.UTF8, AttributeNamesConstants.CodeName);
 		}
-		if (this.UTF8Cache.get(ConstantPool.ClinitSignature) >= constantPoolIndex) {
-			this.UTF8Cache.remove(ConstantPool.ClinitSignature);
+		if (this.cache.get(ConstantPoolCache.UTF8, ConstantPool.ClinitSignature) >= constantPoolIndex) {
+			this.cache.remove(ConstantPoolCache.UTF8, ConstantPool.ClinitSignature);
 		}
-		if (this.UTF8Cache.get(ConstantPool.Clinit) >= constantPoolIndex) {
-			this.UTF8Cache.remove(ConstantPool.Clinit);
+		if (this.cache.get(ConstantPoolCache.UTF8, ConstantPool.Clinit) >= constantPoolIndex) {
+			this.cache.remove(ConstantPoolCache.UTF8, ConstantPool.Clinit);
 		}
 	}
 
@@ -1323,18 +1168,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		this.poolContent[this.currentOffset++] = (byte) value;
 	}
 	public void reset() {
-		if (this.doubleCache != null) this.doubleCache.clear();
-		if (this.floatCache != null) this.floatCache.clear();
-		if (this.intCache != null) this.intCache.clear();
-		if (this.longCache != null) this.longCache.clear();
-		this.UTF8Cache.clear();
-		this.stringCache.clear();
-		this.methodsAndFieldsCache.clear();
-		this.classCache.clear();
-		this.packageCache.clear();
-		this.moduleCache.clear();
-		this.nameAndTypeCacheForFieldsAndMethods.clear();
-		this.dynamicCache.clear();
+		this.cache.clear();
 		this.currentIndex = 1;
 		this.currentOffset = 0;
 	}
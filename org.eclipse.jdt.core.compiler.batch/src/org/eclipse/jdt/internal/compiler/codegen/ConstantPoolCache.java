@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.codegen;
+
+import java.util.Arrays;
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Maps the entries of a constant pool to their index, for all kinds of entries in a single open addressing table.
+ * <p>
+ * An entry is identified by its kind and by up to three char arrays (e.g. declaring class, selector and signature of
+ * a method reference) and a number (the bits of a numeric constant, or the bootstrap index of a dynamic constant).
+ * Entries are kept densely in parallel arrays, indexed by an open addressing table of ints, so that no objects are
+ * allocated per entry. {@link #clear()} keeps the arrays, so a table pooled with its class file is reused without
+ * allocation.
+ * </p>
+ */
+public final class ConstantPoolCache {
+
+	public static final int UTF8 = 1;
+	public static final int STRING = 2;
+	public static final int CLASS = 3;
+	public static final int MODULE = 4;
+	public static final int PACKAGE = 5;
+	public static final int NAME_AND_TYPE = 6;
+	public static final int FIELD_OR_METHOD = 7; // fields and methods can share a key space, as their signatures differ
+	public static final int DYNAMIC = 8;
+	public static final int INTEGER = 9;
+	public static final int LONG = 10;
+	public static final int FLOAT = 11;
+	public static final int DOUBLE = 12;
+
+	private static final int INITIAL_CAPACITY = 128;
+
+	// open addressing table of the entries, holding the position of an entry + 1, 0 for a free slot
+	private int[] slots;
+	// entries in the order they were added
+	private int[] hashes;
+	private byte[] kinds;
+	private char[][] keys1;
+	private char[][] keys2;
+	private char[][] keys3;
+	private long[] numbers; // null while all numbers are 0
+	private int[] values;
+	private int elementSize;
+
+	public ConstantPoolCache() {
+		this.slots = new int[INITIAL_CAPACITY * 2]; // must be a power of 2, linear probing degrades beyond half full
+		this.hashes = new int[INITIAL_CAPACITY];
+		this.kinds = new byte[INITIAL_CAPACITY];
+		this.keys1 = new char[INITIAL_CAPACITY][];
+		this.keys2 = new char[INITIAL_CAPACITY][];
+		this.keys3 = new char[INITIAL_CAPACITY][];
+		this.values = new int[INITIAL_CAPACITY];
+	}
+
+	private static int hash(int kind, char[] key1, char[] key2, char[] key3, long number) {
+		int hash = kind;
+		if (key1 != null)
+			hash = hash * 31 + CharOperation.hashCode(key1);
+		if (key2 != null)
+			hash = hash * 31 + CharOperation.hashCode(key2);
+		if (key3 != null)
+			hash = hash * 31 + CharOperation.hashCode(key3);
+		hash = hash * 31 + (int) (number ^ (number >>> 32));
+		hash *= 0x9E3779B9; // spread the bits used as index
+		return hash ^ (hash >>> 16);
+	}
+
+	private boolean matches(int entry, int kind, char[] key1, char[] key2, char[] key3, long number) {
+		return this.kinds[entry] == kind
+				&& (this.numbers == null ? 0 : this.numbers[entry]) == number
+				&& CharOperation.equals(this.keys1[entry], key1)
+				&& CharOperation.equals(this.keys2[entry], key2)
+				&& CharOperation.equals(this.keys3[entry], key3);
+	}
+
+	/**
+	 * Answers the slot of the given entry, or the free slot where to add it as <code>-slot - 1</code>.
+	 */
+	private int slotOf(int hash, int kind, char[] key1, char[] key2, char[] key3, long number) {
+		int mask = this.slots.length - 1;
+		int slot = hash & mask;
+		int entry;
+		while ((entry = this.slots[slot] - 1) >= 0) {
+			if (this.hashes[entry] == hash && matches(entry, kind, key1, key2, key3, number))
+				return slot;
+			slot = (slot + 1) & mask;
+		}
+		return -slot - 1;
+	}
+
+	/**
+	 * Answers the index of the given entry, or adds the entry with the given index if it isn't there yet.
+	 *
+	 * @return the index of an existing entry, or <code>-value</code> if the entry was added (value is assumed to be
+	 *         &gt; 0)
+	 */
+	public int putIfAbsent(int kind, char[] key1, char[] key2, char[] key3, long number, int value) {
+		int hash = hash(kind, key1, key2, key3, number);
+		int slot = slotOf(hash, kind, key1, key2, key3, number);
+		if (slot >= 0)
+			return this.values[this.slots[slot] - 1];
+		int entry = this.elementSize++;
+		if (entry == this.hashes.length)
+			grow();
+		this.hashes[entry] = hash;
+		this.kinds[entry] = (byte) kind;
+		this.keys1[entry] = key1;
+		this.keys2[entry] = key2;
+		this.keys3[entry] = key3;
+		if (number != 0) {
+			if (this.numbers == null)
+				this.numbers = new long[this.hashes.length];
+			this.numbers[entry] = number;
+		}
+		this.values[entry] = value;
+		this.slots[-slot - 1] = entry + 1;
+		if (this.elementSize > this.slots.length / 2)
+			rehash();
+		return -value;
+	}
+
+	public int putIfAbsent(int kind, char[] key, int value) {
+		return putIfAbsent(kind, key, null, null, 0, value);
+	}
+
+	public int putIfAbsent(int kind, long number, int value) {
+		return putIfAbsent(kind, null, null, null, number, value);
+	}
+
+	/**
+	 * Answers the index of the given entry, or -1 if there is none.
+	 */
+	public int get(int kind, char[] key) {
+		int slot = slotOf(hash(kind, key, null, null, 0), kind, key, null, null, 0);
+		return slot < 0 ? -1 : this.values[this.slots[slot] - 1];
+	}
+
+	public void remove(int kind, char[] key) {
+		int free = slotOf(hash(kind, key, null, null, 0), kind, key, null, null, 0);
+		if (free < 0)
+			return;
+		int entry = this.slots[free] - 1;
+		// move back the slots following in the same run, if the slot freed is on their probe path
+		int mask = this.slots.length - 1;
+		for (int slot = (free + 1) & mask; this.slots[slot] != 0; slot = (slot + 1) & mask) {
+			int home = this.hashes[this.slots[slot] - 1] & mask;
+			if (free <= slot ? (home <= free || home > slot) : (home <= free && home > slot)) {
+				this.slots[free] = this.slots[slot];
+				free = slot;
+			}
+		}
+		this.slots[free] = 0;
+		// fill the gap with the last entry
+		int last = --this.elementSize;
+		if (entry != last) {
+			int slot = this.hashes[last] & mask;
+			while (this.slots[slot] != last + 1)
+				slot = (slot + 1) & mask;
+			this.slots[slot] = entry + 1;
+			this.hashes[entry] = this.hashes[last];
+			this.kinds[entry] = this.kinds[last];
+			this.keys1[entry] = this.keys1[last];
+			this.keys2[entry] = this.keys2[last];
+			this.keys3[entry] = this.keys3[last];
+			if (this.numbers != null)
+				this.numbers[entry] = this.numbers[last];
+			this.values[entry] = this.values[last];
+		}
+		this.keys1[last] = this.keys2[last] = this.keys3[last] = null;
+		if (this.numbers != null)
+			this.numbers[last] = 0;
+	}
+
+	/**
+	 * Answers the single char array key of the entry with the given kind and index, or <code>null</code> if there is
+	 * none.
+	 */
+	public char[] keyFor(int kind, int value) {
+		for (int entry = 0; entry < this.elementSize; entry++) {
+			if (this.values[entry] == value && this.kinds[entry] == kind)
+				return this.keys1[entry];
+		}
+		return null;
+	}
+
+	private void grow() {
+		int length = this.hashes.length * 2;
+		this.hashes = Arrays.copyOf(this.hashes, length);
+		this.kinds = Arrays.copyOf(this.kinds, length);
+		this.keys1 = Arrays.copyOf(this.keys1, length);
+		this.keys2 = Arrays.copyOf(this.keys2, length);
+		this.keys3 = Arrays.copyOf(this.keys3, length);
+		if (this.numbers != null)
+			this.numbers = Arrays.copyOf(this.numbers, length);
+		this.values = Arrays.copyOf(this.values, length);
+	}
+
+	private void rehash() {
+		this.slots = new int[this.slots.length * 2];
+		int mask = this.slots.length - 1;
+		for (int entry = 0; entry < this.elementSize; entry++) {
+			int slot = this.hashes[entry] & mask;
+			while (this.slots[slot] != 0)
+				slot = (slot + 1) & mask;
+			this.slots[slot] = entry + 1;
+		}
+	}
+
+	/**
+	 * Removes all entries, keeping the space allocated for them.
+	 */
+	public void clear() {
+		if (this.elementSize == 0)
+			return;
+		Arrays.fill(this.slots, 0);
+		Arrays.fill(this.keys1, 0, this.elementSize, null);
+		Arrays.fill(this.keys2, 0, this.elementSize, null);
+		Arrays.fill(this.keys3, 0, this.elementSize, null);
+		if (this.numbers != null)
+			Arrays.fill(this.numbers, 0, this.elementSize, 0);
+		this.elementSize = 0;
+	}
+
+	public int size() {
+		return this.elementSize;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("{"); //$NON-NLS-1$
+		for (int entry = 0; entry < this.elementSize; entry++) {
+			if (entry > 0)
+				buf.append(", "); //$NON-NLS-1$
+			buf.append(this.kinds[entry]).append(':');
+			if (this.keys1[entry] != null)
+				buf.append(this.keys1[entry]).append(' ');
+			if (this.keys2[entry] != null)
+				buf.append(this.keys2[entry]).append(' ');
+			if (this.keys3[entry] != null)
+				buf.append(this.keys3[entry]).append(' ');
+			if (this.numbers != null)
+				buf.append(this.numbers[entry]);
+			buf.append("->").append(this.values[entry]); //$NON-NLS-1$
+		}
+		buf.append("}"); //$NON-NLS-1$
+		return buf.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2010 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,7 +94,7 @@ public class StackMapFrame {
 	}
 
 	public StackMapFrame duplicate() {
-		Map<VerificationTypeInfo, VerificationTypeInfo> cache = new HashMap<>();
+		Map<VerificationTypeInfo, VerificationTypeInfo> cache = null; // created for the first uninitialized info
 		int length = this.locals.length;
 		StackMapFrame result = new StackMapFrame(length);
 		result.numberOfLocals = -1;
@@ -104,28 +104,36 @@ public class StackMapFrame {
 		// If control doesn't flow into the new frame from `this` do not inherit the stack shape from `this`
 		result.numberOfStackItems = this.adoptStackShape ? this.numberOfStackItems : 0;
 
-		if (length != 0) {
-			result.locals = new VerificationTypeInfo[length];
-			for (int i = 0; i < length; i++) {
-				final VerificationTypeInfo verificationTypeInfo = this.locals[i];
-				result.locals[i] = getCachedValue(cache, verificationTypeInfo);
+		for (int i = 0; i < length; i++) {
+			final VerificationTypeInfo verificationTypeInfo = this.locals[i];
+			if (cache == null && isUninitialized(verificationTypeInfo)) {
+				cache = new HashMap<>();
 			}
+			result.locals[i] = getCachedValue(cache, verificationTypeInfo);
 		}
 		length = result.numberOfStackItems;
 		if (length != 0) {
 			result.stackItems = new VerificationTypeInfo[length];
 			for (int i = 0; i < length; i++) {
 				final VerificationTypeInfo verificationTypeInfo = this.stackItems[i];
+				if (cache == null && isUninitialized(verificationTypeInfo)) {
+					cache = new HashMap<>();
+				}
 				result.stackItems[i] = getCachedValue(cache, verificationTypeInfo);
 			}
 		}
 		return result;
 	}
 
+	private static boolean isUninitialized(VerificationTypeInfo value) {
+		return value != null
+				&& (value.tag == VerificationTypeInfo.ITEM_UNINITIALIZED || value.tag == VerificationTypeInfo.ITEM_UNINITIALIZED_THIS);
+	}
+
 	private static VerificationTypeInfo getCachedValue(Map<VerificationTypeInfo, VerificationTypeInfo> cache, VerificationTypeInfo value) {
 		VerificationTypeInfo cachedValue = value;
 		if (value != null) {
-			if (value.tag == VerificationTypeInfo.ITEM_UNINITIALIZED || value.tag == VerificationTypeInfo.ITEM_UNINITIALIZED_THIS) {
+			if (isUninitialized(value)) {
 				// we use the cache only for uninitialized info
 				cachedValue = cache.get(value);
 				if (cachedValue == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2019 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -73,16 +71,14 @@ public class StackMapFrameCodeStream extends CodeStream {
 		}
 	}
 
-	static class FramePosition {
-		int counter;
-	}
-
 	public int[] stateIndexes;
 	public int stateIndexesCounter;
-	private HashMap framePositions;
+	// frame positions in increasing order, with how many more times than once each was added
+	// (the arrays are reused from one method to the next)
+	private int[] framePositions;
+	private int[] framePositionCounters;
+	private int framePositionsCount;
 	public Set exceptionMarkers;
-	public ArrayList stackDepthMarkers;
-	public ArrayList stackMarkers;
 
 	public StackMapFrameCodeStream(ClassFile givenClassFile) {
 		super(givenClassFile);
@@ -126,13 +122,29 @@ public class StackMapFrameCodeStream extends CodeStream {
 	}
 
 	public void addFramePosition(int pc) {
-		Integer newEntry = Integer.valueOf(pc);
-		FramePosition value;
-		if ((value = (FramePosition) this.framePositions.get(newEntry)) != null) {
-			value.counter++;
+		int count = this.framePositionsCount;
+		int index;
+		if (count == 0 || pc > this.framePositions[count - 1]) {
+			index = count; // positions are mostly added in increasing order
 		} else {
-			this.framePositions.put(newEntry, new FramePosition());
+			index = Arrays.binarySearch(this.framePositions, 0, count, pc);
+			if (index >= 0) {
+				this.framePositionCounters[index]++;
+				return;
+			}
+			index = -index - 1;
+		}
+		if (count == this.framePositions.length) {
+			this.framePositions = Arrays.copyOf(this.framePositions, count * 2);
+			this.framePositionCounters = Arrays.copyOf(this.framePositionCounters, count * 2);
 		}
+		if (index < count) {
+			System.arraycopy(this.framePositions, index, this.framePositions, index + 1, count - index);
+			System.arraycopy(this.framePositionCounters, index, this.framePositionCounters, index + 1, count - index);
+		}
+		this.framePositions[index] = pc;
+		this.framePositionCounters[index] = 0;
+		this.framePositionsCount = count + 1;
 	}
 
 	@Override
@@ -142,13 +154,12 @@ public class StackMapFrameCodeStream extends CodeStream {
 	}
 
 	public void removeFramePosition(int pc) {
-		Integer entry = Integer.valueOf(pc);
-		FramePosition value;
-		if ((value = (FramePosition) this.framePositions.get(entry)) != null) {
-			value.counter--;
-			if (value.counter <= 0) {
-				this.framePositions.remove(entry);
-			}
+		int count = this.framePositionsCount;
+		int index = Arrays.binarySearch(this.framePositions, 0, count, pc);
+		if (index >= 0 && --this.framePositionCounters[index] <= 0) {
+			System.arraycopy(this.framePositions, index + 1, this.framePositions, index, count - index - 1);
+			System.arraycopy(this.framePositionCounters, index + 1, this.framePositionCounters, index, count - index - 1);
+			this.framePositionsCount = count - 1;
 		}
 	}
 
@@ -184,48 +195,35 @@ public class StackMapFrameCodeStream extends CodeStream {
 		return markers;
 	}
 
+	/**
+	 * Answers the frame positions in increasing order.
+	 */
 	public int[] getFramePositions() {
-		Set set = this.framePositions.keySet();
-		int size = set.size();
-		int[] positions = new int[size];
-		int n = 0;
-		for (Object pos : set) {
-			positions[n++] = ((Integer) pos).intValue();
-		}
-		Arrays.sort(positions);
-		return positions;
+		return Arrays.copyOf(this.framePositions, this.framePositionsCount);
 	}
 
 	public boolean hasFramePositions() {
-		return this.framePositions.size() != 0;
+		return this.framePositionsCount != 0;
 	}
 
 	@Override
 	public void init(ClassFile targetClassFile) {
 		super.init(targetClassFile);
 		this.stateIndexesCounter = 0;
-		if (this.framePositions != null) {
-			this.framePositions.clear();
-		}
+		this.framePositionsCount = 0;
 		if (this.exceptionMarkers != null) {
 			this.exceptionMarkers.clear();
 		}
-		if (this.stackDepthMarkers != null) {
-			this.stackDepthMarkers.clear();
-		}
-		if (this.stackMarkers != null) {
-			this.stackMarkers.clear();
-		}
 	}
 
 	@Override
 	public void initializeMaxLocals(MethodBinding methodBinding) {
 		super.initializeMaxLocals(methodBinding);
 		if (this.framePositions == null) {
-			this.framePositions = new HashMap();
-		} else {
-			this.framePositions.clear();
+			this.framePositions = new int[16];
+			this.framePositionCounters = new int[16];
 		}
+		this.framePositionsCount = 0;
 	}
 
 	public void popStateIndex() {
@@ -269,18 +267,10 @@ public class StackMapFrameCodeStream extends CodeStream {
 	public void reset(ClassFile givenClassFile) {
 		super.reset(givenClassFile);
 		this.stateIndexesCounter = 0;
-		if (this.framePositions != null) {
-			this.framePositions.clear();
-		}
+		this.framePositionsCount = 0;
 		if (this.exceptionMarkers != null) {
 			this.exceptionMarkers.clear();
 		}
-		if (this.stackDepthMarkers != null) {
-			this.stackDepthMarkers.clear();
-		}
-		if (this.stackMarkers != null) {
-			this.stackMarkers.clear();
-		}
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -106,6 +106,11 @@ public class UnconditionalFlowInfo extends FlowInfo {
 		// extra[DEFINN] is iDefNNBit
 		// lifecycle is extra == null or else all extra[]'s are allocated
 		// arrays which have the same size
+	private int[] extraSharers;
+		// copies share the extra arrays until one of the sharing flow infos
+		// modifies them, see ownExtra(); null if this flow info owns its
+		// extra arrays, else the count of the flow infos sharing them, in a
+		// box shared by all of them
 
 	public int maxFieldCount; // limit between fields and locals
 
@@ -250,6 +255,7 @@ private FlowInfo addInfoFrom(FlowInfo inits, boolean handleInits) {
 		if (this.extra != null) {
 			if (otherInits.extra != null) {
 				// both sides have extra storage
+				ownExtra();
 				int length, otherLength;
 				if ((length = this.extra[0].length) <
 						(otherLength = otherInits.extra[0].length)) {
@@ -430,6 +436,7 @@ public FlowInfo addPotentialInitializationsFrom(FlowInfo inits) {
 	if (this.extra != null) {
 		if (otherInits.extra != null) {
 			// both sides have extra storage
+			ownExtra();
 			int i = 0, length, otherLength;
 			if ((length = this.extra[0].length) < (otherLength = otherInits.extra[0].length)) {
 				// current storage is shorter -> grow current
@@ -548,6 +555,7 @@ public UnconditionalFlowInfo addPotentialNullInfoFrom(
 				}
 			}
 		} else {
+			ownExtra();
 			mergeLimit = copyLimit;
 			if (mergeLimit > this.extra[0].length) {
 				mergeLimit = this.extra[0].length;
@@ -656,6 +664,7 @@ public void acceptIncomingNullnessFrom(UnconditionalFlowInfo other) {
 		for (int i = 0; i < max; i++) {
 			long extraIN = this.extra[DEFIN][i], extraINN = this.extra[DEFINN][i];
 			if (extraIN != 0 || extraINN != 0) {
+				ownExtra();
 				long b1  =  other.extra[1+1][i];
 				long b2  =  other.extra[2+1][i], nb2 = ~b2;
 				long b3  =  other.extra[3+1][i], nb3 = ~b3;
@@ -792,7 +801,15 @@ public FlowInfo copy() {
 	copy.iDefNNBit = this.iDefNNBit;
 	copy.tagBits = this.tagBits;
 	copy.maxFieldCount = this.maxFieldCount;
-	if (this.extra != null) {
+	if (this.extra != null && (hasNullInfo || !hasExtraNullBits())) {
+		// copy on write, copies are frequently merged or discarded without being modified
+		if (this.extraSharers == null) {
+			this.extraSharers = new int[] { 1 };
+		}
+		this.extraSharers[0]++;
+		copy.extraSharers = this.extraSharers;
+		copy.extra = this.extra;
+	} else if (this.extra != null) {
 		int length;
 		copy.extra = new long[extraLength][];
 		System.arraycopy(this.extra[0], 0,
@@ -819,6 +836,46 @@ public FlowInfo copy() {
 	return copy;
 }
 
+/**
+ * Answer whether the extra null bits hold any information, copies drop them
+ * unless this flow info has null information.
+ */
+private boolean hasExtraNullBits() {
+	for (int j = 2; j < 6; j++) {
+		long[] bits = this.extra[j];
+		for (int i = 0; i < bits.length; i++) {
+			if (bits[i] != 0) {
+				return true;
+			}
+		}
+	}
+	return false;
+}
+
+/**
+ * Make sure this flow info does not share its extra arrays with copies
+ * before modifying them.
+ */
+private void ownExtra() {
+	if (this.extraSharers != null) {
+		if (this.extraSharers[0] > 1) {
+			long[][] shared = this.extra;
+			this.extra = new long[extraLength][];
+			for (int j = 0; j < extraLength; j++) {
+				this.extra[j] = shared[j].clone();
+			}
+		}
+		releaseExtra();
+	}
+}
+
+private void releaseExtra() {
+	if (this.extraSharers != null) {
+		this.extraSharers[0]--;
+		this.extraSharers = null;
+	}
+}
+
 /**
  * Discard definite inits and potential inits from this, then return this.
  * The returned flow info only holds null related information.
@@ -831,6 +888,7 @@ public UnconditionalFlowInfo discardInitializationInfo() {
 	this.definiteInits =
 		this.potentialInits = 0;
 	if (this.extra != null) {
+		ownExtra();
 		for (int i = 0, length = this.extra[0].length; i < length; i++) {
 			this.extra[0][i] = this.extra[1][i] = 0;
 		}
@@ -865,6 +923,7 @@ public UnconditionalFlowInfo discardNonFieldInitializations() {
 	if ((vectorIndex = (limit / BitCacheSize) - 1) >= length) {
 		return this; // not enough room yet
 	}
+	ownExtra();
 	if (vectorIndex >= 0) {
 		// else we only have complete non field array items left
 		long mask = (1L << (limit % BitCacheSize))-1;
@@ -1285,6 +1344,7 @@ public void markAsComparedEqualToNonNull(LocalVariableBinding local) {
 				}
 			}
 			else {
+				ownExtra();
 				int oldLength;
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
 					growSpace(vectorIndex + 1, 0, oldLength);
@@ -1379,6 +1439,7 @@ public void markAsComparedEqualToNull(LocalVariableBinding local) {
 				}
 			}
 			else {
+				ownExtra();
 				int oldLength;
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
 					growSpace(vectorIndex + 1, 0, oldLength);
@@ -1434,6 +1495,7 @@ private void markAsDefinitelyAssigned(int position) {
 				createExtraSpace(length);
 			}
 			else {
+				ownExtra();
 				int oldLength; // might need to grow the arrays
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
 					growSpace(vectorIndex + 1, 0, oldLength);
@@ -1492,6 +1554,7 @@ public void markAsDefinitelyNonNull(LocalVariableBinding local) {
     			createExtraSpace(length);
     		}
     		else {
+    			ownExtra();
     			int oldLength; // might need to grow the arrays
     			if (vectorIndex >= (oldLength = this.extra[0].length)) {
     				growSpace(vectorIndex + 1, 0, oldLength);
@@ -1548,6 +1611,7 @@ public void markAsDefinitelyNull(LocalVariableBinding local) {
     			createExtraSpace(length);
     		}
     		else {
+    			ownExtra();
     			int oldLength; // might need to grow the arrays
     			if (vectorIndex >= (oldLength = this.extra[0].length)) {
     				growSpace(vectorIndex + 1, 0, oldLength);
@@ -1612,6 +1676,7 @@ public void markAsDefinitelyUnknown(LocalVariableBinding local) {
 				createExtraSpace(length);
 			}
 			else {
+				ownExtra();
 				int oldLength; // might need to grow the arrays
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
 					growSpace(vectorIndex+1, 0, oldLength);
@@ -1660,6 +1725,7 @@ public void resetNullInfo(LocalVariableBinding local) {
     			// before and for which no null bits exist.
     			return;
     		}
+    		ownExtra();
     		this.extra[2][vectorIndex]
     		    &= (mask = ~(1L << (position % BitCacheSize)));
     		this.extra[3][vectorIndex] &= mask;
@@ -1700,6 +1766,7 @@ public void markPotentiallyUnknownBit(LocalVariableBinding local) {
 				createExtraSpace(length);
 			}
 			else {
+				ownExtra();
 				int oldLength; // might need to grow the arrays
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
     				growSpace(vectorIndex + 1, 0, oldLength);
@@ -1745,6 +1812,7 @@ public void markPotentiallyNullBit(LocalVariableBinding local) {
 				createExtraSpace(length);
 			}
 			else {
+				ownExtra();
 				int oldLength; // might need to grow the arrays
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
     				growSpace(vectorIndex + 1, 0, oldLength);
@@ -1790,6 +1858,7 @@ public void markPotentiallyNonNullBit(LocalVariableBinding local) {
 				createExtraSpace(length);
 			}
 			else {
+				ownExtra();
 				int oldLength; // might need to grow the arrays
 				if (vectorIndex >= (oldLength = this.extra[0].length)) {
 					growSpace(vectorIndex + 1, 0, oldLength);
@@ -1935,6 +2004,7 @@ public UnconditionalFlowInfo mergedWith(UnconditionalFlowInfo otherInits) {
 		int resetLimit = 0; // (copyLimit..resetLimit]  : only this has extra bits. Shed doubt on them.
 		int i;
 		if (this.extra != null) {
+			ownExtra();
 			if (otherInits.extra != null) {
 				// both sides have extra storage
 				int length, otherLength;
@@ -2191,6 +2261,7 @@ public FlowInfo setReachMode(int reachMode) {
 			// see InitializationTest#test090 (and others)
 			this.potentialInits = 0;
 			if (this.extra != null) {
+				ownExtra();
 				for (int i = 0, length = this.extra[0].length;
 						i < length; i++) {
 					this.extra[1][i] = 0;
@@ -2356,6 +2427,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 	// intersection of definitely assigned variables,
 	this.definiteInits &= otherInits.definiteInits;
 	if (this.extra != null) {
+		ownExtra();
 		if (otherInits.extra != null) {
 			// both sides have extra storage
 			int i = 0, length, otherLength;
@@ -2410,6 +2482,7 @@ public void resetAssignmentInfo(int position) {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
 			if (this.extra == null || vectorIndex >= this.extra[0].length) return;	// variable doesnt exist in flow info
+			ownExtra();
 			long mask;
 			this.extra[0][vectorIndex] &=
 				(mask = ~(1L << (position % BitCacheSize)));
@@ -2432,11 +2505,14 @@ private void createExtraSpace(int length) {
 }
 
 public void growSpace(int newLength, int copyStart, int copyLength) {
+	long[][] grown = new long[extraLength][];
 	for (int j = 0; j < extraLength; j++) {
 		System.arraycopy(this.extra[j], copyStart,
-			(this.extra[j] = new long[newLength]), copyStart,
+			(grown[j] = new long[newLength]), copyStart,
 			copyLength);
 	}
+	this.extra = grown;
+	releaseExtra();
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], copyStart+copyLength, newLength, -1);
 		Arrays.fill(this.extra[INN], copyStart+copyLength, newLength, -1);
@@ -2451,6 +2527,7 @@ public void acceptAllIncomingNullness() {
 	this.iDefNBit = -1L;
 	this.iDefNNBit = -1L;
 	if (this.extra != null) {
+		ownExtra();
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
 		Arrays.fill(this.extra[DEFIN], -1L);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @SuppressWarnings("rawtypes")
 public class CompilerStats implements Comparable {
 
@@ -28,6 +32,110 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// counters
+	public int binaryTypeCount;
+	public int inferenceCacheHits;
+	public int inferenceCacheMisses;
+	public int methodLookupCacheHits;
+	public int methodLookupCacheMisses;
+
+	// per unit, only collected when not null
+	public List<UnitStats> unitStats;
+
+/**
+ * Times (in nanoseconds) spent in the compile phases of a single compilation unit, as well as the number of binary types loaded and
+ * problems reported while processing the unit.
+ */
+public static class UnitStats implements Comparable<UnitStats> {
+	public final char[] fileName;
+	public long parseTime;
+	public long resolveTime;
+	public long analyzeTime;
+	public long generateTime;
+	public int binaryTypeCount;
+	public int problemCount;
+	private long lapStart;
+
+	public UnitStats(char[] fileName) {
+		this.fileName = fileName;
+		this.lapStart = System.nanoTime();
+	}
+
+	/**
+	 * Answers the nanoseconds elapsed since the creation of these stats or the previous lap.
+	 */
+	public long lap() {
+		long now = System.nanoTime();
+		long elapsed = now - this.lapStart;
+		this.lapStart = now;
+		return elapsed;
+	}
+
+	public long elapsedTime() {
+		return this.parseTime + this.resolveTime + this.analyzeTime + this.generateTime;
+	}
+
+	/** slowest first **/
+	@Override
+	public int compareTo(UnitStats other) {
+		return Long.compare(other.elapsedTime(), elapsedTime());
+	}
+}
+
+/**
+ * Starts collecting {@link UnitStats} for every processed compilation unit.
+ */
+public void collectUnitStats() {
+	this.unitStats = new ArrayList<>();
+}
+
+/**
+ * Answers the collected unit stats, slowest first.
+ */
+public List<UnitStats> slowestUnits(int max) {
+	if (this.unitStats == null)
+		return Collections.emptyList();
+	List<UnitStats> sorted;
+	synchronized (this.unitStats) {
+		sorted = new ArrayList<>(this.unitStats);
+	}
+	Collections.sort(sorted);
+	return sorted.subList(0, Math.min(max, sorted.size()));
+}
+
+public void addUnitStats(UnitStats stats) {
+	synchronized (this.unitStats) {
+		this.unitStats.add(stats);
+	}
+}
+
+/**
+ * Adds the line count, times and counters of the given stats, e.g. of a compilation which ran concurrently to this
+ * one. The elapsed time then spans both compilations.
+ */
+public void add(CompilerStats other) {
+	if (this.startTime == 0 || other.startTime < this.startTime)
+		this.startTime = other.startTime;
+	this.endTime = Math.max(this.endTime, other.endTime);
+	this.overallTime = this.endTime - this.startTime;
+	this.lineCount += other.lineCount;
+	this.parseTime += other.parseTime;
+	this.resolveTime += other.resolveTime;
+	this.analyzeTime += other.analyzeTime;
+	this.generateTime += other.generateTime;
+	this.binaryTypeCount += other.binaryTypeCount;
+	this.inferenceCacheHits += other.inferenceCacheHits;
+	this.inferenceCacheMisses += other.inferenceCacheMisses;
+	this.methodLookupCacheHits += other.methodLookupCacheHits;
+	this.methodLookupCacheMisses += other.methodLookupCacheMisses;
+	if (this.unitStats != null && other.unitStats != null) {
+		synchronized (other.unitStats) {
+			for (UnitStats stats : other.unitStats)
+				addUnitStats(stats);
+		}
+	}
+}
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
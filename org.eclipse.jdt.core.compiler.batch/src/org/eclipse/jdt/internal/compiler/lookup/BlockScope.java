@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,8 +32,10 @@
 package org.eclipse.jdt.internal.compiler.lookup;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ast.*;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
@@ -1130,6 +1132,11 @@ public boolean hasResourceTrackers() {
 public void checkUnclosedCloseables(FlowInfo flowInfo, FlowContext flowContext, ASTNode location, BlockScope locationScope) {
 	if (!compilerOptions().analyseResourceLeaks) return;
 	boolean exitAtEndOfMethod = location != null && locationScope == this && locationScope.isLastInMethod(null, location);
+	if (FakedTrackingVariable.exceedsAnalysisBudget(this)) {
+		if (this.trackingVariables != null && (location == null || (exitAtEndOfMethod && this instanceof MethodScope)))
+			releaseTrackingVariables();
+		return;
+	}
 	if (this.trackingVariables == null
 			|| (!(this instanceof MethodScope) && exitAtEndOfMethod))
 	{
@@ -1217,12 +1224,15 @@ public void checkUnclosedCloseables(FlowInfo flowInfo, FlowContext flowContext,
 			trackingVar.reportExplicitClosing(problemReporter());
 		}
 	}
-	if (location == null || exitAtEndOfMethod) {
-		// when leaving this block dispose off all tracking variables:
-		for (int i=0; i<this.localIndex; i++)
-			this.locals[i].closeTracker = null;
-		this.trackingVariables = null;
-	}
+	if (location == null || exitAtEndOfMethod)
+		releaseTrackingVariables();
+}
+
+/** When leaving this block dispose off all tracking variables. */
+private void releaseTrackingVariables() {
+	for (int i=0; i<this.localIndex; i++)
+		this.locals[i].closeTracker = null;
+	this.trackingVariables = null;
 }
 
 private boolean isLastInMethod(Block block, ASTNode location) {
@@ -1304,6 +1314,7 @@ private void reportResourceLeak(FakedTrackingVariable trackingVar, ASTNode locat
 public void correlateTrackingVarsIfElse(FlowInfo thenFlowInfo, FlowInfo elseFlowInfo) {
 	if (this.trackingVariables != null) {
 		int trackVarCount = this.trackingVariables.size();
+		Set<LocalVariableBinding> sharedOriginals = null; // computed on demand, avoids comparing all pairs of tracking variables
 		for (int i=0; i<trackVarCount; i++) {
 			FakedTrackingVariable trackingVar = this.trackingVariables.get(i);
 			if (trackingVar.originalBinding == null) {
@@ -1332,6 +1343,10 @@ public void correlateTrackingVarsIfElse(FlowInfo thenFlowInfo, FlowInfo elseFlow
 			else {
 				if (thenFlowInfo == FlowInfo.DEAD_END || elseFlowInfo == FlowInfo.DEAD_END)
 					continue; // short cut
+				if (sharedOriginals == null)
+					sharedOriginals = sharedOriginalBindings();
+				if (!sharedOriginals.contains(trackingVar.originalBinding))
+					continue; // no second tracking variable to merge with
 
 				for (int j=i+1; j<trackVarCount; j++) {
 					FakedTrackingVariable var2 = this.trackingVariables.get(j);
@@ -1363,6 +1378,17 @@ public void correlateTrackingVarsIfElse(FlowInfo thenFlowInfo, FlowInfo elseFlow
 		((BlockScope) this.parent).correlateTrackingVarsIfElse(thenFlowInfo, elseFlowInfo);
 }
 
+/** Answer the original bindings tracked by more than one tracking variable of this scope. */
+private Set<LocalVariableBinding> sharedOriginalBindings() {
+	Set<LocalVariableBinding> seen = new HashSet<>();
+	Set<LocalVariableBinding> shared = new HashSet<>();
+	for (FakedTrackingVariable trackingVar : this.trackingVariables) {
+		if (trackingVar.originalBinding != null && !seen.add(trackingVar.originalBinding))
+			shared.add(trackingVar.originalBinding);
+	}
+	return shared;
+}
+
 /** Retrieve the nearest tracking variable for the given original binding. */
 public FakedTrackingVariable getCloseTrackerFor(LocalVariableBinding localVariable) {
 	if (this.trackingVariables != null) {
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers the outcome of type inference (JLS 18.5.1 and 18.5.2) for generic method invocations whose result only
+ * depends on the invoked method, the argument types and the target type, so that identical invocations, e.g. the
+ * copies of a lambda body resolved once per candidate target type, don't run inference again.
+ * <p>
+ * The caller ({@link ParameterizedGenericMethodBinding#computeCompatibleMethod18(MethodBinding, TypeBinding[], Scope, InvocationSite)})
+ * is responsible for only recording results which are independent of the invocation site: no poly expression site or
+ * argument, only proper types, strict or loose (not varargs) invocation, no unchecked conversion, no captures.
+ * </p>
+ * The cache is shared by the root {@link LookupEnvironment} and its module environments and lives as long as their
+ * bindings.
+ */
+public class InferenceResultCache {
+
+	private final Map<Key, Result> results = new HashMap<>();
+	public int hits;
+	public int misses;
+
+	static class Result {
+		final ParameterizedGenericMethodBinding method;
+		final int inferenceKind;
+
+		Result(ParameterizedGenericMethodBinding method, int inferenceKind) {
+			this.method = method;
+			this.inferenceKind = inferenceKind;
+		}
+	}
+
+	/**
+	 * Bindings are unique within a lookup environment, hence compared by identity, consistently with the hash code:
+	 * annotated variants of a type are distinct keys.
+	 */
+	static class Key {
+		final LookupEnvironment environment;
+		final MethodBinding method;
+		final TypeBinding[] arguments;
+		final TypeBinding expectedType;
+		private final int hashCode;
+
+		Key(LookupEnvironment environment, MethodBinding method, TypeBinding[] arguments, TypeBinding expectedType) {
+			this.environment = environment;
+			this.method = method;
+			this.arguments = arguments;
+			this.expectedType = expectedType;
+			int hash = 31 * System.identityHashCode(method) + System.identityHashCode(expectedType);
+			for (TypeBinding argument : arguments) {
+				hash = 31 * hash + System.identityHashCode(argument);
+			}
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key other))
+				return false;
+			if (this.environment != other.environment || this.method != other.method || this.expectedType != other.expectedType || this.arguments.length != other.arguments.length) //$IDENTITY-COMPARISON$
+				return false;
+			for (int i = 0; i < this.arguments.length; i++) {
+				if (this.arguments[i] != other.arguments[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return true;
+		}
+	}
+
+	Result get(Key key) {
+		Result result = this.results.get(key);
+		if (result == null) {
+			this.misses++;
+		} else {
+			this.hits++;
+		}
+		return result;
+	}
+
+	void put(Key key, ParameterizedGenericMethodBinding method, int inferenceKind) {
+		this.results.put(key, new Result(method, inferenceKind));
+	}
+
+	void clear() {
+		this.results.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,6 +109,15 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 	public ITypeRequestor typeRequestor;		// SHARED
 
 	private Map<MethodBinding, ParameterizedGenericMethodBinding[]> uniqueParameterizedGenericMethodBindings;
+	public final InferenceResultCache inferenceResultCache; // SHARED
+	public final MethodLookupCache methodLookupCache; // SHARED
+	/**
+	 * Number of resources per method (including its local types and lambdas) up to which resource leaks are reported,
+	 * configurable by the system property <code>jdt.compiler.resourceLeakBudget</code>. Beyond that, tracking variables
+	 * are still maintained, but the costly checks at each exit of a method aren't done, so that machine generated
+	 * methods with hundreds of resources and exits don't dominate the compilation.
+	 */
+	public final int resourceLeakBudget; // SHARED
 
 	private Map<String, MethodBinding[]> uniquePolymorphicMethodBindings;
 	private Map<TypeBinding, ParameterizedMethodBinding> uniqueGetClassMethodBinding; // https://bugs.eclipse.org/bugs/show_bug.cgi?id=300734
@@ -247,6 +256,9 @@ public LookupEnvironment(ITypeRequestor typeRequestor, CompilerOptions globalOpt
 	this.knownPackages = new HashtableOfPackage<>();
 	this.uniqueParameterizedGenericMethodBindings = new HashMap<>();
 	this.uniquePolymorphicMethodBindings = new HashMap<>();
+	this.inferenceResultCache = new InferenceResultCache();
+	this.methodLookupCache = new MethodLookupCache();
+	this.resourceLeakBudget = Integer.getInteger("jdt.compiler.resourceLeakBudget", Integer.MAX_VALUE).intValue(); //$NON-NLS-1$
 	this.missingTypes = null;
 	this.accessRestrictions = new HashMap<>();
 	this.classFilePool = ClassFilePool.newInstance();
@@ -272,6 +284,9 @@ LookupEnvironment(LookupEnvironment rootEnv, ModuleBinding module) {
 	this.knownPackages = new HashtableOfPackage<>();
 	this.uniqueParameterizedGenericMethodBindings = new HashMap<>();
 	this.uniquePolymorphicMethodBindings = new HashMap<>();
+	this.inferenceResultCache = rootEnv.inferenceResultCache;
+	this.methodLookupCache = rootEnv.methodLookupCache;
+	this.resourceLeakBudget = rootEnv.resourceLeakBudget;
 	this.missingTypes = null;
 	this.accessRestrictions = new HashMap<>();
 	this.classFilePool = rootEnv.classFilePool;
@@ -2411,6 +2426,8 @@ public void reset() {
 	this.uniqueParameterizedGenericMethodBindings = new HashMap<>();
 	this.uniquePolymorphicMethodBindings = new HashMap<>();
 	this.uniqueGetClassMethodBinding = null;
+	this.inferenceResultCache.clear();
+	this.methodLookupCache.clear();
 	this.missingTypes = null;
 	this.typesBeingConnected.clear();
 
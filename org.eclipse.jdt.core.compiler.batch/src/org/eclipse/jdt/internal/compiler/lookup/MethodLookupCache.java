@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
+
+/**
+ * Remembers the methods found by {@link Scope#getMethod(TypeBinding, char[], TypeBinding[], InvocationSite)} for
+ * message sends, so that repeated invocations like <code>builder.append(String)</code> skip the collection of the
+ * candidates, the visibility and applicability checks and the most specific method selection.
+ * <p>
+ * Only lookups whose outcome is determined by the invoking type, the receiver type, the selector, the argument types
+ * and the kind of receiver are cached: explicit receivers which are neither <code>super</code> nor mention wildcards,
+ * proper argument types of non poly expressions, no explicit type arguments and no null annotation analysis. Of those
+ * only valid, non generic and non polymorphic methods are recorded, as the result of a generic method depends on the
+ * invocation context.
+ * </p>
+ * The cache is shared by the root {@link LookupEnvironment} and its module environments and lives as long as their
+ * bindings.
+ */
+public class MethodLookupCache {
+
+	private final Map<Key, MethodBinding> methods = new HashMap<>();
+	public int hits;
+	public int misses;
+
+	/**
+	 * Bindings are unique within a lookup environment, hence compared by identity, consistently with the hash code:
+	 * annotated variants of a type are distinct keys.
+	 */
+	static class Key {
+		final SourceTypeBinding invocationType;
+		final ReferenceBinding receiverType;
+		final char[] selector;
+		final TypeBinding[] arguments;
+		final boolean typeAccess;
+		private final int hashCode;
+
+		Key(SourceTypeBinding invocationType, ReferenceBinding receiverType, char[] selector, TypeBinding[] arguments, boolean typeAccess) {
+			this.invocationType = invocationType;
+			this.receiverType = receiverType;
+			this.selector = selector;
+			this.arguments = arguments;
+			this.typeAccess = typeAccess;
+			int hash = 31 * System.identityHashCode(invocationType) + System.identityHashCode(receiverType);
+			hash = 31 * hash + CharOperation.hashCode(selector);
+			for (TypeBinding argument : arguments) {
+				hash = 31 * hash + System.identityHashCode(argument);
+			}
+			this.hashCode = typeAccess ? hash : ~hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key other))
+				return false;
+			if (this.invocationType != other.invocationType || this.receiverType != other.receiverType //$IDENTITY-COMPARISON$
+					|| this.typeAccess != other.typeAccess || this.arguments.length != other.arguments.length)
+				return false;
+			for (int i = 0; i < this.arguments.length; i++) {
+				if (this.arguments[i] != other.arguments[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return CharOperation.equals(this.selector, other.selector);
+		}
+	}
+
+	/**
+	 * Answers the key of the given lookup if its result can be cached, <code>null</code> otherwise.
+	 */
+	static Key keyFor(Scope scope, ReferenceBinding receiverType, char[] selector, TypeBinding[] argumentTypes, InvocationSite invocationSite) {
+		if (invocationSite == null || invocationSite.getClass() != MessageSend.class)
+			return null; // subclasses for code assist, code snippets and javadoc need the real lookup
+		MessageSend messageSend = (MessageSend) invocationSite;
+		if (messageSend.isSuperAccess() || messageSend.receiverIsImplicitThis() || messageSend.genericTypeArguments() != null)
+			return null;
+		if (scope.environment().globalOptions.isAnnotationBasedNullAnalysisEnabled)
+			return null;
+		SourceTypeBinding invocationType = scope.enclosingSourceType();
+		if (invocationType == null)
+			return null;
+		switch (receiverType.kind()) {
+			case Binding.TYPE :
+			case Binding.GENERIC_TYPE :
+			case Binding.RAW_TYPE :
+			case Binding.PARAMETERIZED_TYPE :
+				break;
+			default :
+				return null; // type variables, captures and intersections
+		}
+		if ((receiverType.tagBits & (TagBits.HasDirectWildcard | TagBits.HasCapturedWildcard | TagBits.HasMissingType)) != 0)
+			return null;
+		Expression[] arguments = messageSend.arguments;
+		int length = argumentTypes.length;
+		if ((arguments == null ? 0 : arguments.length) != length)
+			return null;
+		for (int i = 0; i < length; i++) {
+			TypeBinding argumentType = argumentTypes[i];
+			if (argumentType == null || argumentType.kind() == Binding.POLY_TYPE || !argumentType.isProperType(true)
+					|| (argumentType.tagBits & (TagBits.HasCapturedWildcard | TagBits.HasMissingType)) != 0)
+				return null;
+			if (arguments[i].getPolyExpressions().length > 0)
+				return null;
+		}
+		return new Key(invocationType, receiverType, selector, argumentTypes.clone(), messageSend.isTypeAccess());
+	}
+
+	MethodBinding get(Key key) {
+		MethodBinding method = this.methods.get(key);
+		if (method == null) {
+			this.misses++;
+		} else {
+			this.hits++;
+		}
+		return method;
+	}
+
+	void put(Key key, MethodBinding method, InvocationSite invocationSite) {
+		if (method == null || !method.isValidBinding() || method.isPolymorphic()
+				|| method.original().typeVariables != Binding.NO_TYPE_VARIABLES)
+			return;
+		if ((((MessageSend) invocationSite).bits & ASTNode.DepthMASK) != 0)
+			return; // visibility check of a protected method recorded the depth of the enclosing type on the site
+		this.methods.put(key, method);
+	}
+
+	void clear() {
+		this.methods.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+}
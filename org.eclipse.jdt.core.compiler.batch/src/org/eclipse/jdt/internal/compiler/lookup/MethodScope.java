@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  * Copyright (c) 2000, 2025 IBM Corporation and others.
+ *  * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ public class MethodScope extends BlockScope {
 	/* By specifying {@code -Djdt.flow.test.extra=true} tests can push all flow analysis into the extra bits of UnconditionalFlowInfo. */
 	private static int baseAnalysisIndex = 0;
 	public int analysisIndex = baseAnalysisIndex; // for setting flow-analysis id
+	public int resourceCount = -1; // number of resources in this method, counted on demand, see FakedTrackingVariable.exceedsAnalysisBudget()
 	public boolean isPropagatingInnerClassEmulation;
 
 	// for local variables table attributes
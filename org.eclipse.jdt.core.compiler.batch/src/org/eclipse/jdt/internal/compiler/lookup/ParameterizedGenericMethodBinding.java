@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ package org.eclipse.jdt.internal.compiler.lookup;
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.Expression;
 import org.eclipse.jdt.internal.compiler.ast.Invocation;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
 import org.eclipse.jdt.internal.compiler.ast.NullAnnotationMatching;
 import org.eclipse.jdt.internal.compiler.ast.ReferenceExpression;
 import org.eclipse.jdt.internal.compiler.ast.Wildcard;
@@ -175,6 +176,25 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 					((Expression)invocationSite).isPolyExpression(originalMethod);
 			boolean isDiamond = isPolyExpression && originalMethod.isConstructor();
 			boolean isInexactVarargsInference = false;
+			InferenceResultCache.Key cacheKey = null;
+			if (!isPolyExpression && allArgumentsAreProper && isSiteIndependent(invocationSite, arguments, parameters, compilerOptions)) {
+				cacheKey = new InferenceResultCache.Key(environment, originalMethod, arguments.clone(), invocationSite.invocationTargetType());
+				InferenceResultCache.Result cached = environment.inferenceResultCache.get(cacheKey);
+				if (cached != null) {
+					// same state of the site as if inference had run, see below:
+					infCtx18.inferenceKind = cached.inferenceKind;
+					infCtx18.stepCompleted = InferenceContext18.TYPE_INFERRED_FINAL;
+					MessageSend messageSend = (MessageSend) invocationSite;
+					if (cacheKey.expectedType != null)
+						messageSend.registerResult(cacheKey.expectedType, cached.method);
+					InferenceContext18.updateInnerDiamonds(cached.method, messageSend.arguments);
+					messageSend.registerInferenceContext(cached.method, infCtx18);
+					if (InferenceContext18.DEBUG) {
+						System.out.println("Cached method substitute for "+invocationSite+": "+cached.method); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					return cached.method;
+				}
+			}
 			if (arguments.length == parameters.length) {
 				infCtx18.inferenceKind = requireBoxing ? InferenceContext18.CHECK_LOOSE : InferenceContext18.CHECK_STRICT; // engine may still slip into loose mode and adjust level.
 				infCtx18.inferInvocationApplicability(originalMethod, arguments, isDiamond);
@@ -261,6 +281,14 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 								}
 								return problemMethod;
 							}
+							if (cacheKey != null
+									&& infCtx18.inferenceKind != InferenceContext18.CHECK_VARARG
+									&& !infCtx18.usesUncheckedConversion
+									&& !hasReturnProblem
+									&& !isInexactVarargsInference
+									&& !mentionsCapturesOrMissingTypes(methodSubstitute.typeArguments)) {
+								environment.inferenceResultCache.put(cacheKey, methodSubstitute, infCtx18.inferenceKind);
+							}
 						} else {
 							methodSubstitute = new PolyParameterizedGenericMethodBinding(methodSubstitute);
 							if (InferenceContext18.DEBUG) {
@@ -289,6 +317,36 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		}
 	}
 
+	/*
+	 * Answers whether inference for the given site only depends on the invoked method, the argument types and the
+	 * target type, so that the result may be shared with other sites through the InferenceResultCache.
+	 */
+	private static boolean isSiteIndependent(InvocationSite site, TypeBinding[] arguments, TypeBinding[] parameters, CompilerOptions compilerOptions) {
+		if (site == null || site.getClass() != MessageSend.class || compilerOptions.isAnnotationBasedNullAnalysisEnabled)
+			return false; // subclasses for code assist, code snippets and javadoc, as for the MethodLookupCache
+		MessageSend messageSend = (MessageSend) site;
+		if (arguments.length != parameters.length || mentionsCapturesOrMissingTypes(arguments))
+			return false;
+		TypeBinding expectedType = site.invocationTargetType();
+		if (expectedType != null && !expectedType.isProperType(true))
+			return false;
+		if (messageSend.arguments != null) {
+			for (Expression argument : messageSend.arguments) {
+				if (argument.getPolyExpressions().length > 0)
+					return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean mentionsCapturesOrMissingTypes(TypeBinding[] types) {
+		for (TypeBinding type : types) {
+			if (type.kind() == Binding.POLY_TYPE || (type.tagBits & (TagBits.HasCapturedWildcard | TagBits.HasMissingType)) != 0)
+				return true;
+		}
+		return false;
+	}
+
 	MethodBinding boundCheck18(Scope scope, TypeBinding[] arguments, InvocationSite site) {
 		Substitution substitution = this;
 		ParameterizedGenericMethodBinding methodSubstitute = this;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3086,23 +3086,15 @@ public abstract class Scope {
 			if (!currentType.canBeSeenBy(this))
 				return new ProblemMethodBinding(selector, argumentTypes, ProblemReasons.ReceiverTypeNotVisible);
 
-			// retrieve an exact visible match (if possible)
-			MethodBinding methodBinding = findExactMethod(currentType, selector, argumentTypes, invocationSite);
-			if (methodBinding != null && methodBinding.isValidBinding())
-				return methodBinding;
-
-			methodBinding = findMethod(currentType, selector, argumentTypes, invocationSite, false);
-			if (methodBinding == null)
-				return new ProblemMethodBinding(selector, argumentTypes, ProblemReasons.NotFound);
-			if (!methodBinding.isValidBinding())
-				return methodBinding;
-
-			// special treatment for Object.getClass() in 1.5 mode (substitute parameterized return type)
-			if (argumentTypes == Binding.NO_PARAMETERS
-			    && CharOperation.equals(selector, TypeConstants.GETCLASS)
-			    && methodBinding.returnType.isParameterizedType()/*1.5*/) {
-					return environment().createGetClassMethod(receiverType, methodBinding, this);
-		    }
+			MethodLookupCache.Key cacheKey = MethodLookupCache.keyFor(this, currentType, selector, argumentTypes, invocationSite);
+			if (cacheKey != null) {
+				MethodBinding cached = env.methodLookupCache.get(cacheKey);
+				if (cached != null)
+					return cached;
+			}
+			MethodBinding methodBinding = getMethod0(currentType, selector, argumentTypes, invocationSite);
+			if (cacheKey != null)
+				env.methodLookupCache.put(cacheKey, methodBinding, invocationSite);
 			return methodBinding;
 		} catch (AbortCompilation e) {
 			e.updateContext(invocationSite, referenceCompilationUnit().compilationResult);
@@ -3112,6 +3104,27 @@ public abstract class Scope {
 		}
 	}
 
+	private MethodBinding getMethod0(ReferenceBinding currentType, char[] selector, TypeBinding[] argumentTypes, InvocationSite invocationSite) {
+		// retrieve an exact visible match (if possible)
+		MethodBinding methodBinding = findExactMethod(currentType, selector, argumentTypes, invocationSite);
+		if (methodBinding != null && methodBinding.isValidBinding())
+			return methodBinding;
+
+		methodBinding = findMethod(currentType, selector, argumentTypes, invocationSite, false);
+		if (methodBinding == null)
+			return new ProblemMethodBinding(selector, argumentTypes, ProblemReasons.NotFound);
+		if (!methodBinding.isValidBinding())
+			return methodBinding;
+
+		// special treatment for Object.getClass() in 1.5 mode (substitute parameterized return type)
+		if (argumentTypes == Binding.NO_PARAMETERS
+		    && CharOperation.equals(selector, TypeConstants.GETCLASS)
+		    && methodBinding.returnType.isParameterizedType()/*1.5*/) {
+				return environment().createGetClassMethod(currentType, methodBinding, this);
+	    }
+		return methodBinding;
+	}
+
 	/* Answer the package from the compoundName or null if it begins with a type.
 	* Intended to be used while resolving a qualified type name.
 	*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2547,8 +2547,18 @@ private void setImplicitPermittedType(SourceTypeBinding permittedType) {
 		if (sz == 0) {
 			typesPermitted = new ReferenceBinding[] { permittedType };
 		} else {
-			System.arraycopy(typesPermitted, 0, typesPermitted = new ReferenceBinding[sz + 1], 0, sz);
-			typesPermitted[sz] = permittedType;
+			// anonymous types (bodies of enum constants) are resolved when first used, possibly from other units: keep them in source order
+			int index = sz;
+			if (permittedType.isAnonymousType()) {
+				while (index > 0 && typesPermitted[index - 1] instanceof SourceTypeBinding previous
+						&& previous.isAnonymousType() && previous.sourceStart() > permittedType.sourceStart())
+					index--;
+			}
+			ReferenceBinding[] newTypesPermitted = new ReferenceBinding[sz + 1];
+			System.arraycopy(typesPermitted, 0, newTypesPermitted, 0, index);
+			newTypesPermitted[index] = permittedType;
+			System.arraycopy(typesPermitted, index, newTypesPermitted, index + 1, sz - index);
+			typesPermitted = newTypesPermitted;
 		}
 		this.setPermittedTypes(typesPermitted);
 	} else if (sz == 0) {
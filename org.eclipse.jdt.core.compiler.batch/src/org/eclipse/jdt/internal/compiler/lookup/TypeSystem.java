@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2025 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,11 @@ import org.eclipse.jdt.internal.compiler.util.Util;
    would be different unless they are identically annotated.
 
    Thus subsystems that are annotation agnostic could quickly ascertain binding equality by comparing the id field.
+
+   Thread safety: the type tables, the id counter and the auxiliary tables are guarded by the monitor of the type system, so that threads
+   sharing a lookup environment still get the one binding per derivation and the one id per naked type. Every entry point which reads
+   or writes the tables is synchronized (subclasses have to follow suit), ids are only handed out by allocateTypeId(). The lock is
+   reentrant as creating a derived type may register its components first.
 */
 public class TypeSystem {
 
@@ -91,6 +96,11 @@ public class TypeSystem {
 			}
 			@Override
 			public void swapUnresolved(UnresolvedReferenceBinding unresolvedType, ReferenceBinding resolvedType, LookupEnvironment env) {
+				synchronized (TypeSystem.this) { // keys are updated in place
+					swapUnresolved0(unresolvedType, resolvedType, env);
+				}
+			}
+			private void swapUnresolved0(UnresolvedReferenceBinding unresolvedType, ReferenceBinding resolvedType, LookupEnvironment env) {
 				if (this.type == unresolvedType) { //$IDENTITY-COMPARISON$
 					this.type = resolvedType; // cannot be raw since being parameterized below
 					ReferenceBinding enclosing = resolvedType.enclosingType();
@@ -137,6 +147,7 @@ public class TypeSystem {
 			}
 		}
 
+		// guarded by the enclosing type system
 		HashMap<PTBKey, ParameterizedTypeBinding []> hashedParameterizedTypes = new HashMap<>(256);
 
 		ParameterizedTypeBinding get(ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType, AnnotationBinding[] annotations) {
@@ -213,7 +224,7 @@ public class TypeSystem {
 	}
 
 	// Given a type, answer its unannotated aka naked prototype. This is also a convenient way to "register" a type with TypeSystem and have it id stamped.
-	public final TypeBinding getUnannotatedType(TypeBinding type) {
+	public final synchronized TypeBinding getUnannotatedType(TypeBinding type) {
 		UnresolvedReferenceBinding urb = null;
 		if (type.isUnresolvedType()) {
 			urb = (UnresolvedReferenceBinding) type;
@@ -226,10 +237,7 @@ public class TypeSystem {
 			if (type.id == TypeIds.NoId) {
 				if (type.hasTypeAnnotations())
 					throw new IllegalStateException();
-				int typesLength = this.types.length;
-				if (this.typeid == typesLength)
-					System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
-				this.types[type.id = this.typeid++] = new TypeBinding[4];
+				type.id = allocateTypeId(4);
 			} else {
 				TypeBinding nakedType = this.types[type.id] == null ? null : this.types[type.id][0];
 				if (type.hasTypeAnnotations() && nakedType == null)
@@ -246,6 +254,21 @@ public class TypeSystem {
 		return this.types[type.id][0] = type;
 	}
 
+	/* Answer a fresh id along with its empty row of derived types, the caller must hold the monitor of the type system. */
+	private int allocateTypeId(int derivedTypesLength) {
+		int typesLength = this.types.length;
+		if (this.typeid == typesLength)
+			System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
+		this.types[this.typeid] = new TypeBinding[derivedTypesLength];
+		return this.typeid++;
+	}
+
+	/* Register a newly created naked derived type under a fresh id. */
+	private TypeBinding registerNakedType(TypeBinding nakedType) {
+		nakedType.id = allocateTypeId(1);
+		return this.types[nakedType.id][0] = nakedType;
+	}
+
 	// Given a type, return all its variously annotated versions.
 	public TypeBinding[] getAnnotatedTypes(TypeBinding type) {
 		return Binding.NO_TYPES;
@@ -256,7 +279,7 @@ public class TypeSystem {
 
 	   See ArrayBinding.swapUnresolved for further special case handling if incoming leafType is a URB that would resolve to a raw type later.
 	*/
-	public ArrayBinding getArrayType(TypeBinding leafType, int dimensions) {
+	public synchronized ArrayBinding getArrayType(TypeBinding leafType, int dimensions) {
 		if  (leafType instanceof ArrayBinding) {
 			dimensions += leafType.dimensions();
 			leafType = leafType.leafComponentType();
@@ -278,11 +301,7 @@ public class TypeSystem {
 			this.types[unannotatedLeafType.id] = derivedTypes;
 		}
 		TypeBinding arrayType = derivedTypes[i] = new ArrayBinding(unannotatedLeafType, dimensions, this.environment);
-		int typesLength = this.types.length;
-		if (this.typeid == typesLength)
-			System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
-		this.types[this.typeid] = new TypeBinding[1];
-		return (ArrayBinding) (this.types[arrayType.id = this.typeid++][0] = arrayType);
+		return (ArrayBinding) registerNakedType(arrayType);
 	}
 
 	public ArrayBinding getArrayType(TypeBinding leafComponentType, int dimensions, AnnotationBinding[] annotations) {
@@ -296,7 +315,7 @@ public class TypeSystem {
 	/* Note: parameters will not have type type annotations if lookup environment directly uses TypeSystem. When AnnotatableTypeSystem is in use
 	   they may and we need to materialize the unannotated versions and work on them.
 	*/
-	public ParameterizedTypeBinding getParameterizedType(ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType) {
+	public synchronized ParameterizedTypeBinding getParameterizedType(ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType) {
 		ReferenceBinding unannotatedGenericType = (ReferenceBinding) getUnannotatedType(genericType);
 		// getUnannotatedType may have replaced URB by resolvedType
 		if (enclosingType == null && genericType instanceof UnresolvedReferenceBinding
@@ -317,11 +336,7 @@ public class TypeSystem {
 		parameterizedType = new ParameterizedTypeBinding(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, this.environment);
 		cacheDerivedType(unannotatedGenericType, parameterizedType);
 		this.parameterizedTypes.put(genericType, typeArguments, enclosingType, parameterizedType);
-		int typesLength = this.types.length;
-		if (this.typeid == typesLength)
-			System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
-		this.types[this.typeid] = new TypeBinding[1];
-		return (ParameterizedTypeBinding) (this.types[parameterizedType.id = this.typeid++][0] = parameterizedType);
+		return (ParameterizedTypeBinding) registerNakedType(parameterizedType);
 	}
 
 	public ParameterizedTypeBinding getParameterizedType(ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType, AnnotationBinding[] annotations) {
@@ -331,7 +346,7 @@ public class TypeSystem {
 	/* Note: Parameters will not have type type annotations if lookup environment directly uses TypeSystem. However when AnnotatableTypeSystem is in use,
 	   they may and we need to materialize the unannotated versions and work on them.
 	*/
-	public RawTypeBinding getRawType(ReferenceBinding genericType, ReferenceBinding enclosingType) {
+	public synchronized RawTypeBinding getRawType(ReferenceBinding genericType, ReferenceBinding enclosingType) {
 		if (!genericType.hasEnclosingInstanceContext() && enclosingType != null) {
 			enclosingType = (ReferenceBinding) enclosingType.original();
 		}
@@ -356,11 +371,7 @@ public class TypeSystem {
 		}
 
 		TypeBinding rawTytpe = derivedTypes[i] = new RawTypeBinding(unannotatedGenericType, unannotatedEnclosingType, this.environment);
-		int typesLength = this.types.length;
-		if (this.typeid == typesLength)
-			System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
-		this.types[this.typeid] = new TypeBinding[1];
-		return (RawTypeBinding) (this.types[rawTytpe.id = this.typeid++][0] = rawTytpe);
+		return (RawTypeBinding) registerNakedType(rawTytpe);
 	}
 
 	public RawTypeBinding getRawType(ReferenceBinding genericType, ReferenceBinding enclosingType, AnnotationBinding[] annotations) {
@@ -370,7 +381,7 @@ public class TypeSystem {
 	/* Parameters will not have type type annotations if lookup environment directly uses TypeSystem. When AnnotatableTypeSystem is in use,
 	   they may and we need to materialize the unannotated versions and work on them.
 	*/
-	public WildcardBinding getWildcard(ReferenceBinding genericType, int rank, TypeBinding bound, TypeBinding[] otherBounds, int boundKind) {
+	public synchronized WildcardBinding getWildcard(ReferenceBinding genericType, int rank, TypeBinding bound, TypeBinding[] otherBounds, int boundKind) {
 		if (genericType == null) // pseudo wildcard denoting composite bounds for lub computation
 			genericType = ReferenceBinding.LUB_GENERIC;
 
@@ -403,16 +414,11 @@ public class TypeSystem {
 			this.types[useDerivedTypesOfBound ? unannotatedBound.id :unannotatedGenericType.id] = derivedTypes;
 		}
 		TypeBinding wildcard = derivedTypes[i] = new WildcardBinding(unannotatedGenericType, rank, unannotatedBound, unannotatedOtherBounds, boundKind, this.environment);
-
-		int typesLength = this.types.length;
-		if (this.typeid == typesLength)
-			System.arraycopy(this.types, 0, this.types = new TypeBinding[typesLength * 2][], 0, typesLength);
-		this.types[this.typeid] = new TypeBinding[1];
-		return (WildcardBinding) (this.types[wildcard.id = this.typeid++][0] = wildcard);
+		return (WildcardBinding) registerNakedType(wildcard);
 	}
 
 	// No need for an override in ATS, since interning is position specific and either the wildcard there is annotated or not.
-	public final CaptureBinding getCapturedWildcard(WildcardBinding wildcard, ReferenceBinding contextType, int start, int end, ASTNode cud, Supplier<Integer> idSupplier) {
+	public final synchronized CaptureBinding getCapturedWildcard(WildcardBinding wildcard, ReferenceBinding contextType, int start, int end, ASTNode cud, Supplier<Integer> idSupplier) {
 
 		WildcardBinding unannotatedWildcard = (WildcardBinding) getUnannotatedType(wildcard);
 		TypeBinding[] derivedTypes = this.types[unannotatedWildcard.id];  // by construction, cachedInfo != null now.
@@ -461,7 +467,7 @@ public class TypeSystem {
 		return type; // Nothing to do for plain vanilla type system.
 	}
 
-	protected final TypeBinding /* @NonNull */ [] getDerivedTypes(TypeBinding keyType) {
+	protected final synchronized TypeBinding /* @NonNull */ [] getDerivedTypes(TypeBinding keyType) {
 		keyType = getUnannotatedType(keyType);
 		return this.types[keyType.id];
 	}
@@ -492,7 +498,7 @@ public class TypeSystem {
 		return derivedTypes[i] = derivedType;
 	}
 
-	protected final TypeBinding cacheDerivedType(TypeBinding keyType, TypeBinding nakedType, TypeBinding derivedType) {
+	protected final synchronized TypeBinding cacheDerivedType(TypeBinding keyType, TypeBinding nakedType, TypeBinding derivedType) {
 
 		/* Cache the derived type, tagging it as a derivative of both the key type and the naked type.
 		   E.g: int @NonNull [] would be tagged as a derived type of both int and int []. This is not
@@ -519,15 +525,18 @@ public class TypeSystem {
 	   We may return a resolved annotation when requested for unresolved one, but not vice versa.
 	*/
 	public final AnnotationBinding getAnnotationType(ReferenceBinding annotationType, boolean requiredResolved) {
-		AnnotationBinding annotation = (AnnotationBinding) this.annotationTypes.get(annotationType);
-		if (annotation == null) {
-			if (requiredResolved)
-				annotation = new AnnotationBinding(annotationType, Binding.NO_ELEMENT_VALUE_PAIRS);
-			else
-				annotation = new UnresolvedAnnotationBinding(annotationType, Binding.NO_ELEMENT_VALUE_PAIRS, this.environment);
-			this.annotationTypes.put(annotationType, annotation);
+		AnnotationBinding annotation;
+		synchronized (this) {
+			annotation = (AnnotationBinding) this.annotationTypes.get(annotationType);
+			if (annotation == null) {
+				if (requiredResolved)
+					annotation = new AnnotationBinding(annotationType, Binding.NO_ELEMENT_VALUE_PAIRS);
+				else
+					annotation = new UnresolvedAnnotationBinding(annotationType, Binding.NO_ELEMENT_VALUE_PAIRS, this.environment);
+				this.annotationTypes.put(annotationType, annotation);
+			}
 		}
-		if (requiredResolved)
+		if (requiredResolved) // resolving may need to look up types, don't hold the lock meanwhile
 			annotation.resolve();
 		return annotation;
 	}
@@ -536,7 +545,7 @@ public class TypeSystem {
 		return false;
 	}
 
-	public void cleanUp(int typeId) {
+	public synchronized void cleanUp(int typeId) {
 		if (typeId != -1 && typeId < this.typeid && this.types != null) {
 			TypeBinding[] typesForId = this.types[typeId];
 			if (typesForId != null) {
@@ -547,14 +556,14 @@ public class TypeSystem {
 		}
 	}
 
-	public void reset() {
+	public synchronized void reset() {
 		this.annotationTypes = new SimpleLookupTable(16);
 		this.typeid = TypeIds.T_LastWellKnownTypeId;
 		this.types = new TypeBinding[TypeIds.T_LastWellKnownTypeId * 2][];
 		this.parameterizedTypes = new HashedParameterizedTypes();
 	}
 
-	public void updateCaches(UnresolvedReferenceBinding unresolvedType, ReferenceBinding resolvedType) {
+	public synchronized void updateCaches(UnresolvedReferenceBinding unresolvedType, ReferenceBinding resolvedType) {
 		final int unresolvedTypeId = unresolvedType.id;
 		if (resolvedType.id != TypeIds.NoId) {
 			unresolvedType.id = resolvedType.id;
@@ -583,7 +592,7 @@ public class TypeSystem {
 		}
 	}
 
-	public final TypeBinding getIntersectionType18(ReferenceBinding[] intersectingTypes) {
+	public final synchronized TypeBinding getIntersectionType18(ReferenceBinding[] intersectingTypes) {
 		int intersectingTypesLength = intersectingTypes == null ? 0 : intersectingTypes.length;
 		if (intersectingTypesLength == 0)
 			return null;
@@ -616,7 +625,7 @@ public class TypeSystem {
 	 * If a TVB was created with a dummy declaring element and needs to be fixed now,
 	 * make sure that this update affects all early clones, too.
 	 */
-	public void fixTypeVariableDeclaringElement(TypeVariableBinding var, Binding declaringElement) {
+	public synchronized void fixTypeVariableDeclaringElement(TypeVariableBinding var, Binding declaringElement) {
 		int id = var.id;
 		if (id < this.typeid && this.types[id] != null) {
 			for (TypeBinding t : this.types[id]) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,11 +35,15 @@ import static org.eclipse.jdt.internal.compiler.parser.TerminalToken.*;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedWriter;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.Runtime.Version;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +113,9 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 	public static char nasr[] = null;
 	public static char non_terminal_index[] = null;
 	private final static String READABLE_NAMES_FILE = "readableNames"; //$NON-NLS-1$
+	/** All parser tables in one resource, see buildFileForTables() for the layout */
+	private final static String TABLES_FILE = FILEPREFIX + ".rsc"; //$NON-NLS-1$
+	private final static int TABLES_COUNT = 25;
 
 	public static String readableName[] = null;
 
@@ -342,6 +349,51 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 		Collections.sort(entries);
 		buildFile(file, entries);
 	}
+	/*
+	 * Bundles the single table files prefix1.rsc .. prefixN.rsc and the readable names into one resource, so that
+	 * initTables() gets away with a single read. The layout is the number of tables followed by each table as its
+	 * length in bytes and its content, in the order of the single files. The last table holds the readable names,
+	 * already resolved against the names (NT_OFFSET of the new grammar is the number of terminals).
+	 */
+	private static void buildFileForTables(
+			String filename,
+			String prefix,
+			int count,
+			String[] newName,
+			int newNtOffset,
+			String readableNamesFilename) {
+
+		Properties props = new Properties();
+		try (InputStream is = new java.io.FileInputStream(readableNamesFilename)) {
+			props.load(is);
+		} catch (IOException e) {
+			System.out.println(Messages.bind(Messages.parser_missingFile, readableNamesFilename));
+			return;
+		}
+		StringBuilder readableNames = new StringBuilder();
+		for (int i = 1; i < newName.length; i++) {
+			String n = i >= newNtOffset ? props.getProperty(newName[i]) : null;
+			if (i > 1) {
+				readableNames.append('\n');
+			}
+			readableNames.append(n != null && n.length() > 0 ? n : newName[i]);
+		}
+
+		try (DataOutputStream stream = new DataOutputStream(new java.io.BufferedOutputStream(new java.io.FileOutputStream(filename)))) {
+			stream.writeInt(count + 1);
+			for (int i = 1; i <= count; i++) {
+				byte[] bytes = Files.readAllBytes(new File(prefix + i + ".rsc").toPath()); //$NON-NLS-1$
+				stream.writeInt(bytes.length);
+				stream.write(bytes);
+			}
+			stream.writeInt(readableNames.length() * 2);
+			stream.writeChars(readableNames.toString());
+		} catch(IOException e) {
+			System.out.println(Messages.bind(Messages.parser_missingFile, e.getMessage()));
+			return;
+		}
+		System.out.println(filename + " creation complete"); //$NON-NLS-1$
+	}
 	private final static void buildFileForTable(String filename, byte[] bytes) {
 		try (java.io.FileOutputStream stream = new java.io.FileOutputStream(filename)) {
 			stream.write(bytes);
@@ -583,6 +635,13 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 				newLhs,
 				tokens);
 
+		buildFileForTables(
+				TABLES_FILE,
+				prefix,
+				i,
+				newName,
+				newTerminalIndex.length - 1,
+				READABLE_NAMES_FILE + ".props"); //$NON-NLS-1$
 
 		System.out.println(Messages.parser_moveFiles);
 	}
@@ -620,49 +679,85 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 	}
 	public final static void initTables() throws java.io.IOException {
 
-		final String prefix = FILEPREFIX;
-		int i = 0;
-		lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		char[] chars = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		check_table = new short[chars.length];
-		for (int c = chars.length; c-- > 0;) {
-			check_table[c] = (short) (chars[c] - 32768);
-		}
-		asb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		asr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		non_terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_action = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		scope_prefix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_suffix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state_set = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_rhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		in_symb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		rhs = readByteTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_check = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_la = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		name = readNameTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		rules_compliance = readLongTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		readableName = readReadableNameTable(READABLE_NAMES_FILE + ".props"); //$NON-NLS-1$
+		//the tables are located at Parser.class directory, all read at once
+		ByteBuffer tables = ByteBuffer.wrap(readByteTable(TABLES_FILE));
+		try {
+			if (tables.getInt() != TABLES_COUNT)
+				throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+
+			lhs = nextTable(tables);
+			char[] chars = nextTable(tables);
+			check_table = new short[chars.length];
+			for (int c = chars.length; c-- > 0;) {
+				check_table[c] = (short) (chars[c] - 32768);
+			}
+			asb = nextTable(tables);
+			asr = nextTable(tables);
+			nasb = nextTable(tables);
+			nasr = nextTable(tables);
+			terminal_index = nextTable(tables);
+			non_terminal_index = nextTable(tables);
+			term_action = nextTable(tables);
 
-		reverse_index = computeReverseTable(terminal_index, non_terminal_index, name);
+			scope_prefix = nextTable(tables);
+			scope_suffix = nextTable(tables);
+			scope_lhs = nextTable(tables);
+			scope_state_set = nextTable(tables);
+			scope_rhs = nextTable(tables);
+			scope_state = nextTable(tables);
+			in_symb = nextTable(tables);
+
+			rhs = nextByteTable(tables);
+			term_check = nextTable(tables);
+			scope_la = nextTable(tables);
+
+			name = toNameTable(nextTable(tables));
 
-		recovery_templates_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		recovery_templates = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+			rules_compliance = nextLongTable(tables);
 
-		statements_recovery_filter = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+			recovery_templates_index = nextTable(tables);
+			recovery_templates = nextTable(tables);
+
+			statements_recovery_filter = nextTable(tables);
+
+			readableName = toNameTable(nextTable(tables));
+		} catch (BufferUnderflowException e) {
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		}
+		if (tables.hasRemaining() || readableName.length != name.length)
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		for (int i = 1; i < name.length; i++) {
+			if (readableName[i].equals(name[i]))
+				readableName[i] = name[i];
+		}
+
+		reverse_index = computeReverseTable(terminal_index, non_terminal_index, name);
 
 		base_action = lhs;
 	}
+	private static byte[] nextByteTable(ByteBuffer tables) {
+		byte[] bytes = new byte[tables.getInt()];
+		tables.get(bytes);
+		return bytes;
+	}
+	private static long[] nextLongTable(ByteBuffer tables) throws java.io.IOException {
+		int length = tables.getInt();
+		if (length % 8 != 0)
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		long[] longs = new long[length / 8];
+		tables.asLongBuffer().get(longs);
+		tables.position(tables.position() + length);
+		return longs;
+	}
+	private static char[] nextTable(ByteBuffer tables) throws java.io.IOException {
+		int length = tables.getInt();
+		if ((length & 1) != 0)
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		char[] chars = new char[length / 2];
+		tables.asCharBuffer().get(chars);
+		tables.position(tables.position() + length);
+		return chars;
+	}
 	public static int nasi(int state) {
 		return nasb[original_state(state)];
 	}
@@ -686,47 +781,7 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 		}
 		return bytes;
 	}
-	protected static long[] readLongTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)){
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
-
-		//minimal integrity check (even size expected)
-		int length = bytes.length;
-		if (length % 8 != 0)
-			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
-
-		// convert bytes into longs
-		long[] longs = new long[length / 8];
-		int i = 0;
-		int longIndex = 0;
-
-		while (true) {
-			longs[longIndex++] =
-			  (((long) (bytes[i++] & 0xFF)) << 56)
-			+ (((long) (bytes[i++] & 0xFF)) << 48)
-			+ (((long) (bytes[i++] & 0xFF)) << 40)
-			+ (((long) (bytes[i++] & 0xFF)) << 32)
-			+ (((long) (bytes[i++] & 0xFF)) << 24)
-			+ (((long) (bytes[i++] & 0xFF)) << 16)
-			+ (((long) (bytes[i++] & 0xFF)) << 8)
-			+ (bytes[i++] & 0xFF);
-
-			if (i == length)
-				break;
-		}
-		return longs;
-	}
-
-	protected static String[] readNameTable(String filename) throws java.io.IOException {
-		char[] contents = readTable(filename);
+	private static String[] toNameTable(char[] contents) {
 		char[][] nameAsChar = CharOperation.splitOn('\n', contents);
 
 		String[] result = new String[nameAsChar.length + 1];
@@ -737,56 +792,6 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 
 		return result;
 	}
-	protected static String[] readReadableNameTable(String filename){
-		String[] result = new String[name.length];
-
-		Properties props = new Properties();
-		try (InputStream is = Parser.class.getResourceAsStream(filename)) {
-			props.load(is);
-		} catch (IOException e) {
-			result = name;
-			return result;
-		}
-		System.arraycopy(name, 0, result, 0, NT_OFFSET + 1);
-		for (int i = NT_OFFSET; i < name.length; i++) {
-			String n = props.getProperty(name[i]);
-			if (n != null && n.length() > 0) {
-				result[i] = n;
-			} else {
-				result[i] = name[i];
-			}
-		}
-		return result;
-	}
-	protected static char[] readTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)) {
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
-
-		//minimal integrity check (even size expected)
-		int length = bytes.length;
-		if ((length & 1) != 0)
-			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
-
-		// convert bytes into chars
-		char[] chars = new char[length / 2];
-		int i = 0;
-		int charIndex = 0;
-
-		while (true) {
-			chars[charIndex++] = (char) (((bytes[i++] & 0xFF) << 8) + (bytes[i++] & 0xFF));
-			if (i == length)
-				break;
-		}
-		return chars;
-	}
 	public static int tAction(int state, int sym) {
 		return term_action[term_check[base_action[state]+sym] == sym ? base_action[state] + sym : base_action[state]];
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1299,6 +1299,9 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 			int offset;
 			int unicodePtr;
 			boolean checkIfUnicode = false;
+			// fast path over the spaces and tabs of indentations
+			this.currentPosition = skipSpacesAndTabs(this.currentPosition);
+			hasWhiteSpaces = this.currentPosition != whiteStart;
 			do {
 				unicodePtr = this.withoutUnicodePtr;
 				offset = this.currentPosition;
@@ -1551,6 +1554,8 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 										// this avoids duplicating the code in the catch(IndexOutOfBoundsException e)
 										throw new IndexOutOfBoundsException();
 									}
+									// fast path over the text of the comment, the last plain character is read as usual
+									this.currentPosition = Math.max(this.currentPosition, skipLineCommentText(this.currentPosition) - 1);
 									this.lastCommentLinePosition = this.currentPosition;
 									//get the next char
 									isUnicode = false;
@@ -1690,6 +1695,10 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 											star = false;
 									}
 									//get next char
+									if (!star) {
+										// fast path over the text of the comment, the last plain character is read as usual
+										this.currentPosition = Math.max(this.currentPosition, skipBlockCommentText(this.currentPosition) - 1);
+									}
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
 										&& (this.source[this.currentPosition] == 'u')) {
@@ -2232,6 +2241,8 @@ public final void jumpOverMethodBody() {
 			this.withoutUnicodePtr = 0;
 			// ---------Consume white space and handles startPosition---------
 			boolean isWhiteSpace;
+			// fast path over the spaces and tabs of indentations
+			this.currentPosition = skipSpacesAndTabs(this.currentPosition);
 			do {
 				this.startPosition = this.currentPosition;
 				if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2425,6 +2436,8 @@ public final void jumpOverMethodBody() {
 										// this avoids duplicating the code inside the catch(IndexOutOfBoundsException e) below
 										throw new IndexOutOfBoundsException();
 									}
+									// fast path over the text of the comment, the last plain character is read as usual
+									this.currentPosition = Math.max(this.currentPosition, skipLineCommentText(this.currentPosition) - 1);
 									this.lastCommentLinePosition = this.currentPosition;
 									//get the next char
 									isUnicode = false;
@@ -2559,6 +2572,10 @@ public final void jumpOverMethodBody() {
 											star = false;
 									}
 									//get next char
+									if (!star) {
+										// fast path over the text of the comment, the last plain character is read as usual
+										this.currentPosition = Math.max(this.currentPosition, skipBlockCommentText(this.currentPosition) - 1);
+									}
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
 											&& (this.source[this.currentPosition] == 'u')) {
@@ -2727,6 +2744,65 @@ public final void jumpOverMethodBody() {
 	}
 	return;
 }
+/**
+ * Answers the position of the first character from the given position on which is not a space or a tab.
+ */
+private int skipSpacesAndTabs(int position) {
+	char[] src = this.source;
+	int end = Math.min(this.eofPosition, src.length);
+	while (position < end && (src[position] == ' ' || src[position] == '\t')) {
+		position++;
+	}
+	return position;
+}
+/**
+ * Answers the position of the first character from the given position on which is not an ASCII identifier part,
+ * using the same classification as {@link ScannerHelper#OBVIOUS_IDENT_CHAR_NATURES}.
+ */
+private int skipAsciiIdentifierPart(int position, int end) {
+	char[] src = this.source;
+	end = Math.min(end, src.length);
+	while (position < end) {
+		char c = src[position];
+		if (c >= ScannerHelper.MAX_OBVIOUS
+				|| (ScannerHelper.OBVIOUS_IDENT_CHAR_NATURES[c] &
+						(ScannerHelper.C_UPPER_LETTER | ScannerHelper.C_LOWER_LETTER | ScannerHelper.C_IDENT_PART | ScannerHelper.C_DIGIT)) == 0)
+			break;
+		position++;
+	}
+	return position;
+}
+/**
+ * Answers the position of the first character from the given position on which needs handling inside a line
+ * comment, i.e. a line separator or a backslash (possible unicode escape).
+ */
+private int skipLineCommentText(int position) {
+	char[] src = this.source;
+	int end = Math.min(this.eofPosition, src.length);
+	while (position < end) {
+		char c = src[position];
+		if (c == '\n' || c == '\r' || c == '\\')
+			break;
+		position++;
+	}
+	return position;
+}
+/**
+ * Answers the position of the first character from the given position on which needs handling inside a block
+ * comment, i.e. a line separator, a backslash (possible unicode escape), a star (possible end of comment) or an
+ * at sign (possible tag).
+ */
+private int skipBlockCommentText(int position) {
+	char[] src = this.source;
+	int end = Math.min(this.eofPosition, src.length);
+	while (position < end) {
+		char c = src[position];
+		if (c == '\n' || c == '\r' || c == '\\' || c == '*' || c == '@')
+			break;
+		position++;
+	}
+	return position;
+}
 public final boolean jumpOverUnicodeWhiteSpace() throws InvalidInputException {
 	//BOOLEAN
 	//handle the case of unicode. Jump over the next whiteSpace
@@ -3172,6 +3248,10 @@ public TerminalToken scanIdentifierOrKeywordWithBoundCheck() {
 	identLoop: {
 		int pos;
 		int srcLength = this.eofPosition;
+		if (this.withoutUnicodePtr == 0) {
+			// fast path over the plain ASCII identifier characters, anything else is handled by the loop below
+			this.currentPosition = skipAsciiIdentifierPart(this.currentPosition, srcLength);
+		}
 		while (true) {
 			if ((pos = this.currentPosition) >= srcLength) // handle the obvious case upfront
 				break identLoop;
@@ -3234,6 +3314,10 @@ public TerminalToken scanIdentifierOrKeyword() {
 	identLoop: {
 		int pos;
 		int srcLength = this.eofPosition;
+		if (this.withoutUnicodePtr == 0) {
+			// fast path over the plain ASCII identifier characters, anything else is handled by the loop below
+			this.currentPosition = skipAsciiIdentifierPart(this.currentPosition, srcLength);
+		}
 		while (true) {
 			if ((pos = this.currentPosition) >= srcLength) // handle the obvious case upfront
 				break identLoop;
@@ -4287,7 +4371,7 @@ public final void setSource(char[] sourceString){
  */
 public final void setSource(char[] contents, CompilationResult compilationResult) {
 	if (contents == null) {
-		char[] cuContents = compilationResult.compilationUnit.getContents();
+		char[] cuContents = compilationResult.getContents();
 		setSource(cuContents);
 	} else {
 		setSource(contents);
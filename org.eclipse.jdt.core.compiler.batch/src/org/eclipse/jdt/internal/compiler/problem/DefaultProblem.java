@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.compiler.problem;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfInt;
 import org.eclipse.jdt.internal.compiler.util.Messages;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -27,7 +28,11 @@ public class DefaultProblem extends CategorizedProblem {
 	public int column;
 	public int severity;
 	private final String[] arguments;
-	private final String message;
+	private String message;
+	// when not null, the message is bound from these templates and arguments on first use
+	private final HashtableOfInt messageTemplates;
+	private final int elaborationId;
+	private final String[] messageArguments;
 
 	// cannot directly point to IJavaModelMarker constants from within batch compiler
 	private static final String MARKER_TYPE_PROBLEM = "org.eclipse.jdt.core.problem"; //$NON-NLS-1$
@@ -48,6 +53,38 @@ public DefaultProblem(
 
 	this.fileName = originatingFileName;
 	this.message = message;
+	this.messageTemplates = null;
+	this.elaborationId = 0;
+	this.messageArguments = null;
+	this.id = id;
+	this.arguments = stringArguments;
+	this.severity = severity;
+	this.startPosition = startPosition;
+	this.endPosition = endPosition;
+	this.line = line;
+	this.column = column;
+}
+/*
+ * Creates a problem whose message is only bound when asked for, as many problems are never displayed
+ * (warnings suppressed by @SuppressWarnings, or beyond the maximum number of problems per unit).
+ */
+DefaultProblem(
+	char[] originatingFileName,
+	HashtableOfInt messageTemplates,
+	int elaborationId,
+	String[] messageArguments,
+	int id,
+	String[] stringArguments,
+	int severity,
+	int startPosition,
+	int endPosition,
+	int line,
+	int column) {
+
+	this.fileName = originatingFileName;
+	this.messageTemplates = messageTemplates;
+	this.elaborationId = elaborationId;
+	this.messageArguments = messageArguments;
 	this.id = id;
 	this.arguments = stringArguments;
 	this.severity = severity;
@@ -197,7 +234,11 @@ public String getMarkerType() {
 
 @Override
 public String getMessage() {
-	return this.message;
+	String result = this.message;
+	if (result == null && this.messageTemplates != null) {
+		this.message = result = DefaultProblemFactory.getLocalizedMessage(this.messageTemplates, this.id, this.elaborationId, this.messageArguments);
+	}
+	return result;
 }
 
 @Override
@@ -273,8 +314,9 @@ public void setSourceStart(int sourceStart) {
 @Override
 public String toString() {
 	String s = "Pb(" + (this.id & IProblem.IgnoreCategoriesMask) + ") "; //$NON-NLS-1$ //$NON-NLS-2$
-	if (this.message != null) {
-		s += this.message;
+	String problemMessage = getMessage();
+	if (problemMessage != null) {
+		s += problemMessage;
 	} else {
 		if (this.arguments != null)
 			for (String argument : this.arguments)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -7922,7 +7922,7 @@ private int retrieveClosingAngleBracketPosition(int start) {
 	if (compilationResult == null) return start;
 	ICompilationUnit compilationUnit = compilationResult.getCompilationUnit();
 	if (compilationUnit == null) return start;
-	char[] contents = compilationUnit.getContents();
+	char[] contents = compilationResult.getContents();
 	if (contents.length == 0) return start;
 	if (this.positionScanner == null) {
 		this.positionScanner = new Scanner(false, false, false, this.options.sourceLevel, this.options.complianceLevel, null, null, false,
@@ -7964,7 +7964,7 @@ private int retrieveEndingPositionAfterOpeningParenthesis(int sourceStart, int s
 	if (compilationResult == null) return sourceEnd;
 	ICompilationUnit compilationUnit = compilationResult.getCompilationUnit();
 	if (compilationUnit == null) return sourceEnd;
-	char[] contents = compilationUnit.getContents();
+	char[] contents = compilationResult.getContents();
 	if (contents.length == 0) return sourceEnd;
 	if (this.positionScanner == null) {
 		this.positionScanner = new Scanner(false, false, false, this.options.sourceLevel, this.options.complianceLevel, null, null, false,
@@ -7994,7 +7994,7 @@ private int retrieveStartingPositionAfterOpeningParenthesis(int sourceStart, int
 	if (compilationResult == null) return sourceStart;
 	ICompilationUnit compilationUnit = compilationResult.getCompilationUnit();
 	if (compilationUnit == null) return sourceStart;
-	char[] contents = compilationUnit.getContents();
+	char[] contents = compilationResult.getContents();
 	if (contents.length == 0) return sourceStart;
 	if (this.positionScanner == null) {
 		this.positionScanner = new Scanner(false, false, false, this.options.sourceLevel, this.options.complianceLevel, null, null, false,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Gauthier JACQUES, IBM Corporation and others.
+ * Copyright (c) 2014, 2026 Gauthier JACQUES, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,7 +51,7 @@ public class EclipseBatchRequestor implements ICompilerRequestor {
 		if (compilationResult.hasProblems() || compilationResult.hasTasks()) {
 			this.compiler.logger.logProblems(
 											compilationResult.getAllProblems(),
-											compilationResult.compilationUnit.getContents(),
+											compilationResult.getContents(),
 											this.compiler);
 			reportProblems(compilationResult);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.util;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 
 public class CharDeduplication {
@@ -37,6 +39,17 @@ public class CharDeduplication {
 	private final static ThreadLocal<SoftReference<CharDeduplication>> mutableCache = ThreadLocal
 			.withInitial(() -> new SoftReference<>(new CharDeduplication()));
 
+	// ----- shared static part (thread safe): ----
+
+	/** number of independently locked segments of the shared table */
+	private static final int SEGMENT_COUNT = 32; // a power of 2 to fast compute modulo
+	private static final Segment[] sharedSegments = new Segment[SEGMENT_COUNT];
+	static {
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			sharedSegments[i] = new Segment();
+		}
+	}
+
 	/** @return an instance that is *not* thread safe. To be used in a single thread only. **/
 	public static CharDeduplication getThreadLocalInstance() {
 		CharDeduplication local = mutableCache.get().get();
@@ -68,6 +81,35 @@ public class CharDeduplication {
 		return getThreadLocalInstance().sharedCopyOfRange(source, 0, source.length);
 	}
 
+	/**
+	 * Answers an equal char[] which any thread interned before, otherwise remembers and answers the given array.
+	 * Unlike {@link #intern(char[])} the given array is not copied, so it must not be modified later on.
+	 * <p>
+	 * The shared table only holds weak references, i.e. it does not keep arrays alive which are no longer used.
+	 * </p>
+	 * @return the shared instance equal to the given array
+	 **/
+	public static char[] internShared(char[] array) {
+		int length = array.length;
+		switch (length) {
+			case 1:
+				char charOne = array[0];
+				if (charOne < ASCII_CHARS.length) {
+					return ASCII_CHARS[charOne];
+				}
+				break;
+			case 0:
+				return CHAR_ARRAY0;
+		}
+		int hash = hashCode(array, 0, length);
+		return segmentFor(hash).intern(array, 0, length, hash, false);
+	}
+
+	private static Segment segmentFor(int hash) {
+		// use other bits than the thread local table to spread the entries of a bucket:
+		return sharedSegments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+	}
+
 	/**
 	 * like Arrays.copyOfRange(source, from, to) but returns a cached instance of the former result if
 	 * available
@@ -107,8 +149,9 @@ public class CharDeduplication {
 				return charArray;
 			}
 		}
-		char[] r = Arrays.copyOfRange(source, from, to);
-		// not found -> overwrite existing entries in a circular buffer:
+		// not found -> look up the instance known to other threads:
+		char[] r = segmentFor(hash).intern(source, from, to, hash, true);
+		// and overwrite existing entries in a circular buffer:
 		if (positionToReplace == -1) {
 			// no empty entry found - normal case:
 			int j = this.circularBufferPointer[circularBufferStart]++;
@@ -118,7 +161,7 @@ public class CharDeduplication {
 		return r;
 	}
 
-	private int hashCode(char[] source, int from, int to) {
+	private static int hashCode(char[] source, int from, int to) {
 		int result = source[from];
 		for (int i = from + 1; i < to; i++) {
 			result = 31 * result + source[i];
@@ -126,7 +169,7 @@ public class CharDeduplication {
 		return result;
 	}
 
-	private boolean equals(char[] source, int from, int to, char[] charArray) {
+	static boolean equals(char[] source, int from, int to, char[] charArray) {
 		if (charArray.length != to - from) {
 			return false;
 		}
@@ -137,4 +180,74 @@ public class CharDeduplication {
 		}
 		return true;
 	}
+	/** Hashtable with weakly referenced values and chained buckets, guarded by its own lock. **/
+	private static final class Segment {
+		private final ReferenceQueue<char[]> queue = new ReferenceQueue<>();
+		private Entry[] table = new Entry[64]; // a power of 2 to fast compute modulo
+		private int size;
+
+		synchronized char[] intern(char[] source, int from, int to, int hash, boolean copy) {
+			expungeCollectedEntries();
+			int index = hash & (this.table.length - 1);
+			for (Entry entry = this.table[index]; entry != null; entry = entry.next) {
+				if (entry.hash == hash) {
+					char[] charArray = entry.get();
+					if (charArray != null && CharDeduplication.equals(source, from, to, charArray)) {
+						return charArray;
+					}
+				}
+			}
+			char[] r = copy ? Arrays.copyOfRange(source, from, to) : source;
+			this.table[index] = new Entry(r, hash, this.table[index], this.queue);
+			if (++this.size > this.table.length - (this.table.length >>> 2)) {
+				rehash();
+			}
+			return r;
+		}
+
+		private void expungeCollectedEntries() {
+			Object collected;
+			while ((collected = this.queue.poll()) != null) {
+				Entry entry = (Entry) collected;
+				int index = entry.hash & (this.table.length - 1);
+				Entry previous = null;
+				for (Entry e = this.table[index]; e != null; previous = e, e = e.next) {
+					if (e == entry) {
+						if (previous == null) {
+							this.table[index] = e.next;
+						} else {
+							previous.next = e.next;
+						}
+						this.size--;
+						break;
+					}
+				}
+			}
+		}
+
+		private void rehash() {
+			Entry[] newTable = new Entry[this.table.length * 2];
+			for (Entry entry : this.table) {
+				while (entry != null) {
+					Entry next = entry.next;
+					int index = entry.hash & (newTable.length - 1);
+					entry.next = newTable[index];
+					newTable[index] = entry;
+					entry = next;
+				}
+			}
+			this.table = newTable;
+		}
+	}
+
+	private static final class Entry extends WeakReference<char[]> {
+		final int hash;
+		Entry next;
+
+		Entry(char[] referent, int hash, Entry next, ReferenceQueue<char[]> queue) {
+			super(referent, queue);
+			this.hash = hash;
+			this.next = next;
+		}
+	}
 }
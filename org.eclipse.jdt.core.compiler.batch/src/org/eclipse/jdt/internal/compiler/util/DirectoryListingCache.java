@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the names listed in directories of source and class folders across compilations, so that repeated
+ * compilations in the same VM (a daemon or an IDE running the batch compiler) only have to check the time stamp of
+ * a package directory instead of listing it again, which is expensive on network file systems.
+ * <p>
+ * Adding, removing or renaming an entry updates the time stamp of its directory, hence a listing is reused while its
+ * directory keeps the time stamp seen before it was listed. As a directory may change again within the resolution of
+ * its time stamp, a listing is only reused if the directory had not been modified for {@link #RACY_INTERVAL}
+ * milliseconds when it was taken. Listings can be recovered from the file system, so only soft references are held
+ * to them.
+ * </p>
+ * <p>
+ * The shared cache is disabled unless the system property <code>jdt.compiler.reuseDirectoryListings</code> is
+ * <code>true</code>.
+ * </p>
+ */
+public final class DirectoryListingCache {
+
+	/** Coarsest resolution of directory time stamps of common file systems (FAT) */
+	public static final long RACY_INTERVAL = 2000;
+
+	private static final DirectoryListingCache SHARED = Boolean.getBoolean("jdt.compiler.reuseDirectoryListings") //$NON-NLS-1$
+			? new DirectoryListingCache(RACY_INTERVAL)
+			: null;
+
+	private static final class Listing {
+		final long lastModified;
+		final String[] names;
+
+		Listing(long lastModified, String[] names) {
+			this.lastModified = lastModified;
+			this.names = names;
+		}
+	}
+
+	private final ConcurrentMap<String, SoftReference<Listing>> listings = new ConcurrentHashMap<>();
+	private final long racyInterval;
+
+	public DirectoryListingCache(long racyInterval) {
+		this.racyInterval = racyInterval;
+	}
+
+	/**
+	 * Same as {@link File#list()}, answering the listing of a previous compilation if the shared cache is enabled and
+	 * the directory did not change since. The answered array must not be modified.
+	 */
+	public static String[] listDirectory(File directory) {
+		return SHARED == null ? directory.list() : SHARED.list(directory);
+	}
+
+	/**
+	 * Answers the names of the entries of the given directory, or <code>null</code> if it is not a directory. The
+	 * answered array must not be modified.
+	 */
+	public String[] list(File directory) {
+		String key = directory.getPath();
+		long lastModified = directory.lastModified(); // before listing, a concurrent change makes the listing outdated
+		if (lastModified == 0) { // missing, or no time stamp to validate a listing with
+			this.listings.remove(key);
+			return directory.list();
+		}
+		SoftReference<Listing> reference = this.listings.get(key);
+		Listing listing = reference == null ? null : reference.get();
+		if (listing != null && listing.lastModified == lastModified)
+			return listing.names;
+		long listedAt = System.currentTimeMillis();
+		String[] names = directory.list();
+		if (names == null) {
+			this.listings.remove(key);
+		} else if (listedAt - lastModified > this.racyInterval) {
+			this.listings.put(key, new SoftReference<>(new Listing(lastModified, names)));
+		} else {
+			this.listings.remove(key); // recently modified, a later change may keep the time stamp
+		}
+		return names;
+	}
+
+	public void clear() {
+		this.listings.clear();
+	}
+
+	/**
+	 * Clears the shared cache, if enabled.
+	 */
+	public static void clearShared() {
+		if (SHARED != null)
+			SHARED.clear();
+	}
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+
+/**
+ * Implements a soft cache for the class files read from jars, shared by all compilations (batch compiler, builder and
+ * reconciler of every project) in the VM. The classes of a jar are only reused while the jar keeps its size and time
+ * stamp, and as the data can be recovered from the jar we only hold soft references to them. Only the
+ * {@value #MAX_CACHED_JARS} most recently used jars are cached.
+ * <p>
+ * The cache holds fully initialized {@link ClassFileReader}s, which no longer refer to the class file bytes and are not
+ * modified afterwards, so every {@link org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment} can create its
+ * binary type bindings from the same digested class file. Clients must not modify the readers answered by the cache.
+ * Only the readers are shared: each environment still creates its own
+ * {@link org.eclipse.jdt.internal.compiler.lookup.BinaryTypeBinding}s, which refer to the environment and are
+ * completed lazily, and readers are not reference counted but softly held.
+ * </p>
+ * <p>
+ * The cache is disabled unless the system property <code>jdt.compiler.reuseJarContents</code> is <code>true</code>. If
+ * the system property <code>jdt.compiler.jarClassDirectory</code> names a directory as well, the class files of a jar
+ * are also stored there uncompressed, in one file per jar which is memory-mapped by later VMs and read instead of
+ * inflating the entries of the jar. The readers themselves have no persistent form, every VM decodes the class files
+ * it uses once.
+ * </p>
+ * <p>
+ * There is no compiler daemon: the cache only helps clients which run several compilations in the same VM, e.g. through
+ * {@link org.eclipse.jdt.core.compiler.batch.BatchCompiler}. Separate <code>ecj</code> invocations still pay the start
+ * of their VM and only share the stored class files.
+ * </p>
+ */
+public final class JarClassCache {
+
+	public static final boolean ENABLED = Boolean.getBoolean("jdt.compiler.reuseJarContents"); //$NON-NLS-1$
+
+	private static final String DIRECTORY = System.getProperty("jdt.compiler.jarClassDirectory"); //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 0x4A434331; // "JCC1"
+
+	public static final int MAX_CACHED_JARS = 1024;
+
+	// least recently used first, guarded by itself
+	private static final Map<Path, JarClasses> jars = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, JarClasses> eldest) {
+			return size() > MAX_CACHED_JARS;
+		}
+	};
+
+	private JarClassCache() {
+	}
+
+	/**
+	 * Answers the cached classes of the given jar for its current size and time stamp, or <code>null</code> if the
+	 * cache is disabled or the jar cannot be accessed.
+	 */
+	public static JarClasses forJar(Path jar) {
+		if (!ENABLED) {
+			return null;
+		}
+		return forJar(jar, DIRECTORY == null ? null : Path.of(DIRECTORY));
+	}
+
+	/**
+	 * Same as {@link #forJar(Path)} whether the cache is enabled or not, with the directory storing class files given
+	 * explicitly.
+	 *
+	 * @param directory
+	 *            the directory to load stored class files from and to store them to, or <code>null</code> to not
+	 *            persist them
+	 */
+	public static JarClasses forJar(Path jar, Path directory) {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+		} catch (IOException e) {
+			return null;
+		}
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		synchronized (jars) {
+			JarClasses cached = jars.get(jar);
+			if (cached == null || cached.size != size || cached.lastModified != lastModified
+					|| !Objects.equals(cached.directory, directory)) {
+				cached = new JarClasses(jar, size, lastModified, directory);
+				jars.put(jar, cached);
+			}
+			return cached;
+		}
+	}
+
+	public static void clear() {
+		synchronized (jars) {
+			jars.clear();
+		}
+	}
+
+	public static final class JarClasses {
+		private final ConcurrentMap<String, SoftReference<ClassFileReader>> classes = new ConcurrentHashMap<>();
+		private final Path jarPath;
+		final long size;
+		final long lastModified;
+		final Path directory;
+		private boolean storeLoaded; // guarded by this
+		private ClassStore store;
+
+		JarClasses(Path jarPath, long size, long lastModified, Path directory) {
+			this.jarPath = jarPath;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.directory = directory;
+		}
+
+		/**
+		 * Same as {@link ClassFileReader#read(ZipFile, String, boolean)} with full initialization, but answers the
+		 * reader of any compilation which read the entry before. The answered reader is shared and must not be
+		 * modified.
+		 *
+		 * @param zip
+		 *            the opened jar of this cache
+		 */
+		public ClassFileReader read(ZipFile zip, String entryName) throws ClassFormatException, IOException {
+			SoftReference<ClassFileReader> reference = this.classes.get(entryName);
+			ClassFileReader reader = reference == null ? null : reference.get();
+			if (reader == null) {
+				ClassStore classStore = this.directory == null || !entryName.endsWith(SuffixConstants.SUFFIX_STRING_class)
+						? null
+						: store(zip);
+				if (classStore != null) {
+					byte[] bytes = classStore.bytes(entryName);
+					reader = bytes == null ? null : ClassFileReader.read(zip, entryName, bytes, true);
+				} else {
+					reader = ClassFileReader.read(zip, entryName, true);
+				}
+				if (reader == null) {
+					return null;
+				}
+				// concurrent readers of the same entry may both put, any of their equal results is fine
+				this.classes.put(entryName, new SoftReference<>(reader));
+			}
+			return reader;
+		}
+
+		/**
+		 * Answers the stored class files of the jar, storing them first if no other VM did, or <code>null</code> if
+		 * they cannot be stored.
+		 */
+		private synchronized ClassStore store(ZipFile zip) {
+			if (!this.storeLoaded) {
+				this.storeLoaded = true;
+				Path storeFile = this.directory.resolve(storeFileName(this.jarPath));
+				this.store = ClassStore.load(storeFile, this.jarPath, this.size, this.lastModified);
+				if (this.store == null && ClassStore.write(storeFile, this.jarPath, this.size, this.lastModified, zip)) {
+					this.store = ClassStore.load(storeFile, this.jarPath, this.size, this.lastModified);
+				}
+			}
+			return this.store;
+		}
+
+		@Override
+		public String toString() {
+			return "Class Cache for " + this.jarPath; //$NON-NLS-1$
+		}
+	}
+
+	private static String storeFileName(Path jar) {
+		String name = jar.getFileName().toString();
+		return name + '-' + Integer.toHexString(jar.toString().hashCode()) + ".classes"; //$NON-NLS-1$
+	}
+
+	/**
+	 * The uncompressed class files of a jar, memory-mapped from a file which holds a header identifying the jar, the
+	 * contents of the class files, a table of their names, offsets and lengths, and the offset of that table.
+	 */
+	private static final class ClassStore {
+		private final ByteBuffer buffer; // only read with absolute methods, shared by all threads
+		private final Map<String, int[]> locations;
+
+		private ClassStore(ByteBuffer buffer, Map<String, int[]> locations) {
+			this.buffer = buffer;
+			this.locations = locations;
+		}
+
+		/**
+		 * Answers the contents of the given class file, or <code>null</code> if the jar does not contain it.
+		 */
+		byte[] bytes(String entryName) {
+			int[] location = this.locations.get(entryName);
+			if (location == null) {
+				return null;
+			}
+			byte[] bytes = new byte[location[1]];
+			this.buffer.get(location[0], bytes);
+			return bytes;
+		}
+
+		static ClassStore load(Path storeFile, Path jar, long size, long lastModified) {
+			if (!Files.isRegularFile(storeFile)) {
+				return null;
+			}
+			try (FileChannel channel = FileChannel.open(storeFile)) {
+				// the mapping stays valid after closing the channel
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				DataInputStream in = new DataInputStream(new BufferInputStream(buffer.duplicate()));
+				if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(jar.toString()) || in.readLong() != size
+						|| in.readLong() != lastModified) {
+					return null; // stale or written for another jar with the same file name hash
+				}
+				int tableOffset = buffer.getInt(buffer.limit() - 4);
+				in = new DataInputStream(new BufferInputStream(buffer.duplicate().position(tableOffset)));
+				int count = in.readInt();
+				Map<String, int[]> locations = new HashMap<>((int) (count / 0.75f) + 1);
+				for (int i = 0; i < count; i++) {
+					String entryName = in.readUTF();
+					int offset = in.readInt();
+					int length = in.readInt();
+					if (offset < 0 || length < 0 || offset > tableOffset - length) {
+						return null;
+					}
+					locations.put(entryName, new int[] { offset, length });
+				}
+				return new ClassStore(buffer, locations);
+			} catch (IOException | RuntimeException e) {
+				return null; // unreadable store, read the jar
+			}
+		}
+
+		/**
+		 * Writes the class files of the given jar to the store file, answers whether it succeeded.
+		 */
+		static boolean write(Path storeFile, Path jar, long size, long lastModified, ZipFile zip) {
+			Path temporaryFile = null;
+			try {
+				Files.createDirectories(storeFile.getParent());
+				temporaryFile = Files.createTempFile(storeFile.getParent(), storeFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeUTF(jar.toString());
+					out.writeLong(size);
+					out.writeLong(lastModified);
+					Map<String, int[]> locations = new LinkedHashMap<>();
+					for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+						ZipEntry entry = e.nextElement();
+						if (entry.isDirectory() || !entry.getName().endsWith(SuffixConstants.SUFFIX_STRING_class)) {
+							continue;
+						}
+						byte[] bytes = Util.getZipEntryByteContent(entry, zip);
+						if (out.size() > Integer.MAX_VALUE / 2 - bytes.length) {
+							return false; // too large to be mapped with its table
+						}
+						locations.put(entry.getName(), new int[] { out.size(), bytes.length });
+						out.write(bytes);
+					}
+					int tableOffset = out.size();
+					out.writeInt(locations.size());
+					for (Map.Entry<String, int[]> location : locations.entrySet()) {
+						out.writeUTF(location.getKey());
+						out.writeInt(location.getValue()[0]);
+						out.writeInt(location.getValue()[1]);
+					}
+					out.writeInt(tableOffset);
+				}
+				try {
+					Files.move(temporaryFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temporaryFile, storeFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+				temporaryFile = null;
+				return true;
+			} catch (IOException e) {
+				// the store is only an optimization, e.g. a store mapped by another VM cannot be replaced on Windows
+				return false;
+			} finally {
+				if (temporaryFile != null) {
+					try {
+						Files.deleteIfExists(temporaryFile);
+					} catch (IOException e) {
+						// ignore
+					}
+				}
+			}
+		}
+	}
+
+	private static final class BufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		BufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			length = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, length);
+			return length;
+		}
+	}
+}
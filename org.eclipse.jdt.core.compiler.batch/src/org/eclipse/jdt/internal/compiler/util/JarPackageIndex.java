@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Index of the packages of a jar and of the entries directly contained in each of them, so that package lookups and
+ * listings of a package don't have to enumerate all entries of the jar.
+ * <p>
+ * An index is built once per jar and shared by all compilations in the VM while the jar keeps its size and time
+ * stamp. As it can be recovered from the jar, only a soft reference is held to it, and only the indexes of the
+ * {@value #MAX_CACHED_INDEXES} most recently used jars are kept. If the system property
+ * <code>jdt.compiler.jarIndexDirectory</code> names a directory, indexes are also persisted there and loaded by later
+ * VMs instead of reading the central directory of the jar.
+ * </p>
+ * Package names are separated by <code>'/'</code>, the unnamed package is the empty string.
+ */
+public final class JarPackageIndex {
+
+	private static final String DIRECTORY = System.getProperty("jdt.compiler.jarIndexDirectory"); //$NON-NLS-1$
+	private static final int FORMAT_VERSION = 0x4A504931; // "JPI1"
+	private static final String[] NO_ENTRIES = new String[0];
+	public static final int MAX_CACHED_INDEXES = 1024;
+
+	// least recently used first, guarded by itself
+	private static final Map<Path, SoftReference<JarPackageIndex>> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, SoftReference<JarPackageIndex>> eldest) {
+			return size() > MAX_CACHED_INDEXES;
+		}
+	};
+
+	private final long size;
+	private final long lastModified;
+	private final Map<String, String[]> entries;
+	private final Set<String> packageNames;
+
+	private JarPackageIndex(long size, long lastModified, Map<String, String[]> entries) {
+		this.size = size;
+		this.lastModified = lastModified;
+		this.entries = entries;
+		Set<String> names = new HashSet<>();
+		names.add(Util.EMPTY_STRING);
+		for (String packageName : entries.keySet()) {
+			int last = packageName.length();
+			while (last > 0) {
+				if (!names.add(packageName.substring(0, last)))
+					break; // its parents are known as well
+				last = packageName.lastIndexOf('/', last - 1);
+			}
+		}
+		this.packageNames = Collections.unmodifiableSet(names);
+	}
+
+	/**
+	 * Answers the index of the given jar, using the persisted index of the directory named by the system property
+	 * <code>jdt.compiler.jarIndexDirectory</code> if there is one.
+	 *
+	 * @param zip
+	 *            the opened jar, enumerated if no index exists for its current size and time stamp
+	 */
+	public static JarPackageIndex forJar(File jar, ZipFile zip) {
+		return forJar(jar, zip, DIRECTORY == null ? null : Path.of(DIRECTORY));
+	}
+
+	/**
+	 * Same as {@link #forJar(File, ZipFile)}, with the directory persisting indexes given explicitly.
+	 *
+	 * @param directory
+	 *            the directory to load indexes from and to store them to, or <code>null</code> to not persist them
+	 */
+	public static JarPackageIndex forJar(File jar, ZipFile zip, Path directory) {
+		Path path = jar.toPath().toAbsolutePath();
+		long size = -1, lastModified = -1;
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			size = attributes.size();
+			lastModified = attributes.lastModifiedTime().toMillis();
+		} catch (IOException e) {
+			// a jar which is not a file cannot be validated, don't share its index
+			return build(zip, size, lastModified);
+		}
+		JarPackageIndex index;
+		synchronized (indexes) {
+			SoftReference<JarPackageIndex> reference = indexes.get(path);
+			index = reference == null ? null : reference.get();
+		}
+		if (index != null && index.size == size && index.lastModified == lastModified)
+			return index;
+		Path indexFile = directory == null ? null : directory.resolve(indexFileName(path));
+		if (indexFile != null)
+			index = load(indexFile, path, size, lastModified);
+		if (index == null) {
+			index = build(zip, size, lastModified);
+			if (indexFile != null)
+				store(indexFile, path, index);
+		}
+		// concurrent compilations of the same jar may both put, any of their equal indexes is fine
+		synchronized (indexes) {
+			indexes.put(path, new SoftReference<>(index));
+		}
+		return index;
+	}
+
+	public static void clear() {
+		synchronized (indexes) {
+			indexes.clear();
+		}
+	}
+
+	private static JarPackageIndex build(ZipFile zip, long size, long lastModified) {
+		Map<String, List<String>> packages = new LinkedHashMap<>();
+		for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+			String fileName = e.nextElement().getName();
+			int last = fileName.lastIndexOf('/');
+			if (last > 0)
+				packages.computeIfAbsent(fileName.substring(0, last), k -> new ArrayList<>()).add(fileName.substring(last + 1));
+			else if (last == -1)
+				packages.computeIfAbsent(Util.EMPTY_STRING, k -> new ArrayList<>()).add(fileName);
+		}
+		Map<String, String[]> entries = new LinkedHashMap<>((int) (packages.size() / 0.75f) + 1);
+		for (Map.Entry<String, List<String>> entry : packages.entrySet()) {
+			entries.put(entry.getKey(), entry.getValue().toArray(NO_ENTRIES));
+		}
+		return new JarPackageIndex(size, lastModified, entries);
+	}
+
+	private static String indexFileName(Path jar) {
+		String name = jar.getFileName().toString();
+		return name + '-' + Integer.toHexString(jar.toString().hashCode()) + ".index"; //$NON-NLS-1$
+	}
+
+	private static JarPackageIndex load(Path indexFile, Path jar, long size, long lastModified) {
+		if (!Files.isRegularFile(indexFile))
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(jar.toString()) || in.readLong() != size
+					|| in.readLong() != lastModified)
+				return null; // stale or written for another jar with the same file name hash
+			int packageCount = in.readInt();
+			Map<String, String[]> entries = new LinkedHashMap<>((int) (packageCount / 0.75f) + 1);
+			for (int i = 0; i < packageCount; i++) {
+				String packageName = in.readUTF();
+				String[] names = new String[in.readInt()];
+				for (int j = 0; j < names.length; j++) {
+					names[j] = in.readUTF();
+				}
+				entries.put(packageName, names);
+			}
+			return new JarPackageIndex(size, lastModified, entries);
+		} catch (IOException | RuntimeException e) {
+			return null; // unreadable index, rebuild it from the jar
+		}
+	}
+
+	private static void store(Path indexFile, Path jar, JarPackageIndex index) {
+		Path temporaryFile = null;
+		try {
+			Files.createDirectories(indexFile.getParent());
+			temporaryFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(jar.toString());
+				out.writeLong(index.size);
+				out.writeLong(index.lastModified);
+				out.writeInt(index.entries.size());
+				for (Map.Entry<String, String[]> entry : index.entries.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().length);
+					for (String name : entry.getValue()) {
+						out.writeUTF(name);
+					}
+				}
+			}
+			try {
+				Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+			temporaryFile = null;
+		} catch (IOException e) {
+			// the index is only an optimization, the next VM builds it again
+		} finally {
+			if (temporaryFile != null) {
+				try {
+					Files.deleteIfExists(temporaryFile);
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	/**
+	 * Answers whether the jar contains the given package, i.e. an entry in it or in one of its sub packages. The
+	 * unnamed package is always contained.
+	 */
+	public boolean containsPackage(String qualifiedPackageName) {
+		return this.packageNames.contains(qualifiedPackageName);
+	}
+
+	/**
+	 * Answers the names of all packages of the jar, including the unnamed package and all parents of packages with
+	 * entries.
+	 */
+	public Set<String> packageNames() {
+		return this.packageNames;
+	}
+
+	/**
+	 * Answers the names of the packages which directly contain entries, in the order of the jar.
+	 */
+	public Set<String> packagesWithEntries() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/**
+	 * Answers the simple names of the entries directly contained in the given package, in the order of the jar. The
+	 * name of a directory entry is the empty string, the entries of the unnamed package are those at the root of the
+	 * jar.
+	 */
+	public String[] entryNames(String qualifiedPackageName) {
+		String[] names = this.entries.get(qualifiedPackageName);
+		return names == null ? NO_ENTRIES : names;
+	}
+
+	@Override
+	public String toString() {
+		return "Package index of " + this.entries.size() + " packages"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
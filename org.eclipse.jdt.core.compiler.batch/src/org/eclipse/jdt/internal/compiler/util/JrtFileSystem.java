@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2024 IBM Corporation.
+ * Copyright (c) 2015, 2026 IBM Corporation.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -198,7 +198,7 @@ public class JrtFileSystem {
 			content = JRTUtil.classCache.getClassBytes(this.jdk, path);
 		}
 		if (content != null) {
-			ClassFileReader reader = new ClassFileReader(path.toUri(), content, fileName.toCharArray());
+			ClassFileReader reader = ClassFileReader.readFromRuntimeImage(path.toUri(), content, fileName.toCharArray());
 			reader.moduleName = module.toCharArray();
 			return reader;
 		} else {
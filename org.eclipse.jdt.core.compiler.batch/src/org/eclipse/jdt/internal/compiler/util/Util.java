@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,12 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -929,9 +933,31 @@ public class Util implements SuffixConstants {
 	public static void writeToDisk(boolean generatePackagesStructure, String outputPath, String relativeFileName,
 			ClassFile classFile) throws IOException {
 		File file = getFile(generatePackagesStructure, outputPath, relativeFileName);
-		byte[] bytes = Arrays.copyOf(classFile.header, classFile.headerOffset + classFile.contentsOffset);
-		System.arraycopy(classFile.contents, 0, bytes, classFile.headerOffset, classFile.contentsOffset);
-		Files.write(file.toPath(), bytes);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeClassFile(classFile, channel);
+		}
+	}
+
+	/**
+	 * Writes the bytes of the given class file to the given channel, straight from the header and contents arrays of
+	 * the class file instead of joining them into a new array first.
+	 */
+	public static void writeClassFile(ClassFile classFile, WritableByteChannel channel) throws IOException {
+		ByteBuffer[] buffers = new ByteBuffer[] {
+				ByteBuffer.wrap(classFile.header, 0, classFile.headerOffset),
+				ByteBuffer.wrap(classFile.contents, 0, classFile.contentsOffset) };
+		if (channel instanceof GatheringByteChannel) {
+			GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+			long remaining = classFile.headerOffset + classFile.contentsOffset;
+			while (remaining > 0)
+				remaining -= gatheringChannel.write(buffers);
+		} else {
+			for (ByteBuffer buffer : buffers) {
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+			}
+		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
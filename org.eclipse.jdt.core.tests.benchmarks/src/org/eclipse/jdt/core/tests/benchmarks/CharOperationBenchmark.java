@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link CharOperation} hashing and equality used by all name lookups, alone and through a
+ * {@link HashtableOfObject}. Lookup keys are copies of the stored keys, as is the case for names coming from
+ * different units.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharOperationBenchmark {
+
+	private static final int NAMES = 1024;
+
+	private char[][] names;
+	private char[][] copies;
+	private char[][] qualifiedName;
+	private HashtableOfObject table;
+
+	@Setup
+	public void setup() {
+		this.names = new char[NAMES][];
+		this.copies = new char[NAMES][];
+		this.table = new HashtableOfObject();
+		for (int i = 0; i < NAMES; i++) {
+			String name = (i % 3 == 0 ? "java.util.function.Function" : "org.eclipse.jdt.internal.compiler.lookup.Binding") + i; //$NON-NLS-1$ //$NON-NLS-2$
+			this.names[i] = name.toCharArray();
+			this.copies[i] = name.toCharArray();
+			this.table.put(this.names[i], Integer.valueOf(i));
+		}
+		this.qualifiedName = CharOperation.splitOn('.', this.names[1]);
+	}
+
+	@Benchmark
+	public int hashCodes() {
+		int result = 0;
+		for (char[] name : this.copies) {
+			result += CharOperation.hashCode(name);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int equalNames() {
+		int result = 0;
+		for (int i = 0; i < NAMES; i++) {
+			if (CharOperation.equals(this.names[i], this.copies[i])) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int differentNames() {
+		int result = 0;
+		for (int i = 1; i < NAMES; i++) {
+			if (CharOperation.equals(this.names[i - 1], this.copies[i])) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int tableLookup() {
+		int result = 0;
+		for (char[] name : this.copies) {
+			if (this.table.get(name) != null) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public char[] concatQualifiedName() {
+		return CharOperation.concatWith(this.qualifiedName, '.');
+	}
+}
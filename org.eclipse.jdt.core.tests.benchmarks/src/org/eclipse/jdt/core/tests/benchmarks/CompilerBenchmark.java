@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an end-to-end {@link org.eclipse.jdt.internal.compiler.Compiler#compile} of generated units with plain
+ * statements (parse, resolve, analyze and generate to memory) against the system modules of the running JRE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompilerBenchmark {
+
+	@Param({ "1", "50", "200" })
+	public int units;
+
+	private FileSystem environment;
+	private CompilerOptions options;
+	private ICompilationUnit[] sourceUnits;
+
+	@Setup
+	public void setup() {
+		this.environment = SyntheticCorpus.jrtEnvironment();
+		this.options = SyntheticCorpus.compilerOptions();
+		this.sourceUnits = SyntheticCorpus.plainUnits(this.units);
+		if (SyntheticCorpus.compile(this.environment, this.options, this.sourceUnits) != 0) {
+			throw new IllegalStateException("Generated units do not compile"); //$NON-NLS-1$
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	@Benchmark
+	public int compile() {
+		return SyntheticCorpus.compile(this.environment, this.options, this.sourceUnits);
+	}
+}
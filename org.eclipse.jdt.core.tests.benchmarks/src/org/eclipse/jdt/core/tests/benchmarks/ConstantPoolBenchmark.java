@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.codegen.ConstantPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filling the {@link ConstantPool} of a class file the way code generation does: the same types, members
+ * and constants are asked for over and over, so most requests hit the pool caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantPoolBenchmark {
+
+	private static final int TYPES = 64;
+	private static final int REFERENCES = 4096;
+	private static final char[] FIELD_SIGNATURE = "Ljava/lang/String;".toCharArray(); //$NON-NLS-1$
+
+	private ConstantPool constantPool;
+	private char[][] types;
+	private char[][] selectors;
+	private char[][] signatures;
+	private String[] strings;
+
+	@Setup
+	public void setup() {
+		ClassFile classFile = new ClassFile() {
+			// no binding needed as long as the pool does not overflow
+		};
+		classFile.header = new byte[ClassFile.INITIAL_HEADER_SIZE];
+		this.constantPool = new ConstantPool(classFile);
+		this.types = new char[TYPES][];
+		this.selectors = new char[TYPES][];
+		this.signatures = new char[TYPES][];
+		this.strings = new String[TYPES];
+		for (int i = 0; i < TYPES; i++) {
+			this.types[i] = ("bench/pkg" + (i % 8) + "/Type" + i).toCharArray(); //$NON-NLS-1$ //$NON-NLS-2$
+			this.selectors[i] = ("method" + i).toCharArray(); //$NON-NLS-1$
+			this.signatures[i] = ("(ILjava/lang/String;)Lbench/pkg" + (i % 8) + "/Type" + i + ';').toCharArray(); //$NON-NLS-1$ //$NON-NLS-2$
+			this.strings[i] = "constant " + i; //$NON-NLS-1$
+		}
+	}
+
+	@Benchmark
+	public int fillPool() {
+		ConstantPool pool = this.constantPool;
+		pool.reset();
+		int result = 0;
+		for (int i = 0; i < REFERENCES; i++) {
+			int type = (i * 7) % TYPES;
+			int member = (i * 13) % TYPES;
+			result += pool.literalIndexForType(this.types[type]);
+			result += pool.literalIndexForMethod(this.types[type], this.selectors[member], this.signatures[member], false);
+			result += pool.literalIndexForField(this.types[member], this.selectors[type], FIELD_SIGNATURE);
+			result += pool.literalIndex(this.strings[member]);
+			result += pool.literalIndex(i % 1024 + 100_000);
+		}
+		return result;
+	}
+}
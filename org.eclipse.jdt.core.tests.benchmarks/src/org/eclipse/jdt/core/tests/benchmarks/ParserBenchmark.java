@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Parser#parse(ICompilationUnit, CompilationResult)} and the diet parse done for every unit before
+ * resolution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+	private CompilerOptions options;
+	private Parser parser;
+	private ICompilationUnit plainUnit;
+	private ICompilationUnit genericUnit;
+
+	@Setup
+	public void setup() {
+		this.options = SyntheticCorpus.compilerOptions();
+		ProblemReporter problemReporter = new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options, new DefaultProblemFactory());
+		this.parser = new Parser(problemReporter, this.options.parseLiteralExpressionsAsConstants);
+		this.plainUnit = SyntheticCorpus.plainUnits(1)[0];
+		this.genericUnit = SyntheticCorpus.genericUnits(1)[0];
+	}
+
+	private CompilationResult newResult(ICompilationUnit unit) {
+		return new CompilationResult(unit, 0, 1, this.options.maxProblemsPerUnit);
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration parsePlain() {
+		return this.parser.parse(this.plainUnit, newResult(this.plainUnit));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration parseGeneric() {
+		return this.parser.parse(this.genericUnit, newResult(this.genericUnit));
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration dietParsePlain() {
+		return this.parser.dietParse(this.plainUnit, newResult(this.plainUnit));
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Scanner#getNextToken()} over a whole generated unit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean tokenizeComments;
+
+	private char[] source;
+	private Scanner scanner;
+
+	@Setup
+	public void setup() {
+		this.source = (SyntheticCorpus.plainUnit(0) + SyntheticCorpus.genericUnit(0)).toCharArray();
+		long level = CompilerOptions.versionToJdkLevel(CompilerOptions.getLatestVersion());
+		this.scanner = new Scanner(this.tokenizeComments, false /*whitespace*/, false /*nls*/, level, null /*taskTags*/,
+				null /*taskPriorities*/, true /*taskCaseSensitive*/, false /*preview*/);
+	}
+
+	@Benchmark
+	public int scan() throws InvalidInputException {
+		this.scanner.setSource(this.source);
+		int count = 0;
+		while (this.scanner.getNextToken() != TerminalToken.TokenNameEOF) {
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * Generates the deterministic source corpus the benchmarks work on, so that results only depend on the compiler
+ * version and not on files of the machine running them.
+ */
+public final class SyntheticCorpus {
+
+	private SyntheticCorpus() {
+	}
+
+	/**
+	 * Answers the source of a class with plain statements: fields, loops, conditionals, string concatenation, arrays
+	 * and a few anonymous and local classes.
+	 */
+	public static String plainUnit(int index) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("package bench;\n\n") //$NON-NLS-1$
+			.append("import java.util.ArrayList;\n") //$NON-NLS-1$
+			.append("import java.util.List;\n\n") //$NON-NLS-1$
+			.append("/**\n * Generated unit ").append(index).append(".\n */\n") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("public class Plain").append(index).append(" {\n") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\tprivate final int[] values = new int[").append(16 + index % 16).append("];\n") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\tprivate String name = \"Plain").append(index).append("\";\n") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\tprivate static final long SEED = ").append(index * 31L).append("L;\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int m = 0; m < 12; m++) {
+			buffer.append("\t/** Computes value ").append(m).append(". */\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\tpublic int compute").append(m).append("(int limit, String prefix) {\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\tint sum = 0;\n") //$NON-NLS-1$
+				.append("\t\tfor (int i = 0; i < limit && i < this.values.length; i++) {\n") //$NON-NLS-1$
+				.append("\t\t\tif ((i & 1) == 0) {\n") //$NON-NLS-1$
+				.append("\t\t\t\tsum += this.values[i] * ").append(m + 1).append(";\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\t\t} else if (prefix != null && prefix.length() > i) {\n") //$NON-NLS-1$
+				.append("\t\t\t\tsum ^= prefix.charAt(i);\n") //$NON-NLS-1$
+				.append("\t\t\t} else {\n") //$NON-NLS-1$
+				.append("\t\t\t\tsum -= (int) (SEED >>> ").append(m % 8).append(");\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\t\t}\n") //$NON-NLS-1$
+				.append("\t\t}\n") //$NON-NLS-1$
+				.append("\t\ttry {\n") //$NON-NLS-1$
+				.append("\t\t\tthis.name = prefix + \"-\" + sum + '/' + limit;\n") //$NON-NLS-1$
+				.append("\t\t} catch (RuntimeException e) {\n") //$NON-NLS-1$
+				.append("\t\t\treturn -1;\n") //$NON-NLS-1$
+				.append("\t\t}\n") //$NON-NLS-1$
+				.append("\t\tswitch (sum % 4) {\n") //$NON-NLS-1$
+				.append("\t\t\tcase 0: return sum;\n") //$NON-NLS-1$
+				.append("\t\t\tcase 1: return sum + this.name.length();\n") //$NON-NLS-1$
+				.append("\t\t\tdefault: return new Object() { int twice() { return 2 * limit; } }.twice();\n") //$NON-NLS-1$
+				.append("\t\t}\n") //$NON-NLS-1$
+				.append("\t}\n\n"); //$NON-NLS-1$
+		}
+		buffer.append("\tpublic List<String> names(int count) {\n") //$NON-NLS-1$
+			.append("\t\tList<String> result = new ArrayList<>(count);\n") //$NON-NLS-1$
+			.append("\t\tfor (int i = 0; i < count; i++) {\n") //$NON-NLS-1$
+			.append("\t\t\tresult.add(this.name + i);\n") //$NON-NLS-1$
+			.append("\t\t}\n") //$NON-NLS-1$
+			.append("\t\treturn result;\n") //$NON-NLS-1$
+			.append("\t}\n") //$NON-NLS-1$
+			.append("}\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	/**
+	 * Answers the source of a class dominated by generic method invocations, lambdas and method references, which
+	 * keeps type inference busy.
+	 */
+	public static String genericUnit(int index) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("package bench;\n\n") //$NON-NLS-1$
+			.append("import java.util.*;\n") //$NON-NLS-1$
+			.append("import java.util.function.*;\n") //$NON-NLS-1$
+			.append("import java.util.stream.*;\n\n") //$NON-NLS-1$
+			.append("public class Generic").append(index).append(" {\n") //$NON-NLS-1$ //$NON-NLS-2$
+			.append("\trecord Item(String key, int weight, List<String> tags) {}\n\n") //$NON-NLS-1$
+			.append("\tstatic <T, K, V> Map<K, List<V>> index(Collection<T> items, Function<? super T, ? extends K> key,\n") //$NON-NLS-1$
+			.append("\t\t\tFunction<? super T, ? extends V> value) {\n") //$NON-NLS-1$
+			.append("\t\treturn items.stream().collect(Collectors.groupingBy(key, TreeMap::new, Collectors.mapping(value, Collectors.toList())));\n") //$NON-NLS-1$
+			.append("\t}\n\n"); //$NON-NLS-1$
+		for (int m = 0; m < 8; m++) {
+			buffer.append("\tMap<String, Integer> summary").append(m).append("(List<Item> items) {\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\tMap<String, List<Integer>> byKey = index(items, Item::key, Item::weight);\n") //$NON-NLS-1$
+				.append("\t\treturn byKey.entrySet().stream()\n") //$NON-NLS-1$
+				.append("\t\t\t.filter(e -> !e.getValue().isEmpty())\n") //$NON-NLS-1$
+				.append("\t\t\t.map(e -> Map.entry(e.getKey(), e.getValue().stream().reduce(").append(m).append(", Integer::sum)))\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\t\t.sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))\n") //$NON-NLS-1$
+				.append("\t\t\t.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));\n") //$NON-NLS-1$
+				.append("\t}\n\n") //$NON-NLS-1$
+				.append("\tOptional<Set<String>> tags").append(m).append("(List<Item> items, Predicate<Item> filter) {\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\treturn items.stream()\n") //$NON-NLS-1$
+				.append("\t\t\t.filter(filter.and(i -> i.weight() > ").append(m).append("))\n") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("\t\t\t.flatMap(i -> i.tags().stream().map(t -> t + ':' + i.key()))\n") //$NON-NLS-1$
+				.append("\t\t\t.collect(Collectors.collectingAndThen(Collectors.toCollection(TreeSet::new), s -> s.isEmpty() ? Optional.<Set<String>>empty() : Optional.of(s)));\n") //$NON-NLS-1$
+				.append("\t}\n\n"); //$NON-NLS-1$
+		}
+		buffer.append("}\n"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	public static ICompilationUnit[] plainUnits(int count) {
+		ICompilationUnit[] units = new ICompilationUnit[count];
+		for (int i = 0; i < count; i++) {
+			units[i] = new CompilationUnit(plainUnit(i).toCharArray(), "bench/Plain" + i + ".java", null); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return units;
+	}
+
+	public static ICompilationUnit[] genericUnits(int count) {
+		ICompilationUnit[] units = new ICompilationUnit[count];
+		for (int i = 0; i < count; i++) {
+			units[i] = new CompilationUnit(genericUnit(i).toCharArray(), "bench/Generic" + i + ".java", null); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return units;
+	}
+
+	public static CompilerOptions compilerOptions() {
+		Map<String, String> settings = new HashMap<>();
+		String version = CompilerOptions.getLatestVersion();
+		settings.put(CompilerOptions.OPTION_Compliance, version);
+		settings.put(CompilerOptions.OPTION_Source, version);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, version);
+		return new CompilerOptions(settings);
+	}
+
+	/**
+	 * Answers a name environment on the system modules of the running JRE.
+	 */
+	public static FileSystem jrtEnvironment() {
+		String jrt = System.getProperty("java.home") + File.separator + "lib" + File.separator + JRTUtil.JRT_FS_JAR; //$NON-NLS-1$ //$NON-NLS-2$
+		return new FileSystem(new String[] { jrt }, null, null);
+	}
+
+	/**
+	 * Compiles the given units to memory and answers the number of reported errors.
+	 */
+	public static int compile(FileSystem environment, CompilerOptions options, ICompilationUnit[] units) {
+		int[] errors = new int[1];
+		ICompilerRequestor requestor = (CompilationResult result) -> {
+			if (result.hasErrors()) {
+				errors[0] += result.getErrors().length;
+			}
+		};
+		Compiler compiler = new Compiler(environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(), options,
+				requestor, new DefaultProblemFactory());
+		compiler.compile(units.clone()); // the compiler releases the units from the given array
+		return errors[0];
+	}
+}
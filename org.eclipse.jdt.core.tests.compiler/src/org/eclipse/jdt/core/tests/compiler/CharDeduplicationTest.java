@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 jkubitz and others.
+ * Copyright (c) 2021, 2026 jkubitz and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -110,6 +110,31 @@ public class CharDeduplicationTest extends TestCase {
 		}
 	}
 
+	public void testDeduplicationAcrossThreads() throws Exception {
+		char[] a = "aNeverDeduplicatedBefore".toCharArray();
+		char[] expected = CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(a, 0, a.length);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			char[] other = String.valueOf(expected).toCharArray();
+			char[] actual = executor.submit(() -> CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(other, 0, other.length)).get();
+			assertSame(expected, actual);
+			char[] shared = String.valueOf(expected).toCharArray();
+			assertSame(expected, executor.submit(() -> CharDeduplication.internShared(shared)).get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	public void testInternShared() {
+		char[] a = "bNeverDeduplicatedBefore".toCharArray();
+		char[] b = String.valueOf(a).toCharArray();
+		assertSame(a, CharDeduplication.internShared(a)); // not copied
+		assertSame(a, CharDeduplication.internShared(b));
+		assertSame(a, CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(b, 0, b.length));
+		char[] prefixed = "xbNeverDeduplicatedBefore".toCharArray();
+		assertSame(a, CharDeduplication.getThreadLocalInstance().sharedCopyOfRange(prefixed, 1, prefixed.length));
+	}
+
 	public static void main(String[] args) {
 		CharDeduplicationTest test=new CharDeduplicationTest("");
 		System.out.println("min= ~"+ LongStream.range(0, 20).map(t->test.runPerformanceTest()).min().getAsLong()/1_000_000_000d);
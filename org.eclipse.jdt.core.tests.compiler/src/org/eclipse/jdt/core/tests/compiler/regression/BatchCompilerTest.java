@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,8 +45,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.lang.model.SourceVersion;
 import junit.framework.Test;
 import org.eclipse.jdt.core.JavaCore;
@@ -124,6 +127,32 @@ public class BatchCompilerTest extends AbstractBatchCompilerTest {
 			return "*" + this.substring + "*";
 		}
 	}
+	/**
+	 * Replaces the measures of the -time output with placeholders, and lists the timed units by name rather than by
+	 * compilation time.
+	 */
+	static class TimingNormalizer extends Normalizer {
+		TimingNormalizer(Normalizer nextInChain) {
+			super(nextInChain);
+		}
+		@Override
+		String normalized(String originalValue) {
+			String result = super.normalized(originalValue)
+				.replaceAll("\\d+ ms", "N ms")
+				.replaceAll("\\(\\d+(\\.\\d+)?%\\)", "(N%)")
+				.replaceAll("[\\d.]+ lines/s", "N lines/s")
+				.replaceAll("\\d+ binary types loaded", "N binary types loaded");
+			String[] lines = result.split("\n", -1);
+			int start = 0;
+			while (start < lines.length && !lines[start].startsWith("[" + OUTPUT_DIR_PLACEHOLDER))
+				start++;
+			int end = start;
+			while (end < lines.length && lines[end].startsWith("[" + OUTPUT_DIR_PLACEHOLDER))
+				end++;
+			Arrays.sort(lines, start, end);
+			return String.join("\n", lines);
+		}
+	}
 	static final Matcher EMPTY_STRING_MATCHER = new Matcher() {
 		@Override
 		String expected() {
@@ -637,6 +666,8 @@ public void test012(){
         "    -d <dir>           destination directory (if omitted, no directory is\n" +
         "                       created); this option can be overridden per source\n" +
         "                       directory\n" +
+        "    -d <file>.jar      destination jar, replaced by one containing the\n" +
+        "                       generated .class files\n" +
         "    -d none            generate no .class files\n" +
         "    -encoding <enc>    specify default encoding for all source files. Each\n" +
         "                       file/directory can override it when suffixed with\n" +
@@ -755,6 +786,10 @@ public void test012(){
         "    -failOnWarning     fail compilation if there are warnings\n" +
         "    -verbose           enable verbose output\n" +
         "    -referenceInfo     compute reference info\n" +
+        "    -incremental <file>\n" +
+        "                       compile only the units changed since the compilation\n" +
+        "                       recorded in <file>, and the units affected by them\n" +
+        "                       (requires -d <directory> and -proc:none)\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
@@ -13483,4 +13518,358 @@ public void testIssue4768(){
 
 		true);
 }
+// syntax errors found while diet parsing units ahead on worker threads (jdt.compiler.parseAhead) are reported in unit order
+public void testParseAheadProblemsOrder() {
+	String setting = System.getProperty("jdt.compiler.parseAhead");
+	try {
+		System.setProperty("jdt.compiler.parseAhead", "true");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	int i\n" +
+				"}\n",
+				"Y.java",
+				"public class Y extends X {\n" +
+				"	String s = new Z().z;\n" +
+				"}\n",
+				"Z.java",
+				"public class Z {\n" +
+				"	int z;\n" +
+				"	void bar( {\n" +
+				"	}\n" +
+				"}\n",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.8 -nowarn -proceedOnError -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	int i\n" +
+			"	    ^\n" +
+			"Syntax error, insert \";\" to complete ClassBodyDeclarations\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 2)\n" +
+			"	String s = new Z().z;\n" +
+			"	           ^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from int to String\n" +
+			"----------\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 3)\n" +
+			"	void bar( {\n" +
+			"	        ^\n" +
+			"Syntax error, insert \")\" to complete MethodDeclaration\n" +
+			"----------\n" +
+			"3 problems (3 errors)\n",
+			true);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.parseAhead");
+		else
+			System.setProperty("jdt.compiler.parseAhead", setting);
+	}
+}
+// class files are streamed into a jar given as destination path
+public void testDestinationJar() throws IOException {
+	String jarPath = OUTPUT_DIR + File.separator + "bin" + File.separator + "out.jar";
+	this.runConformTest(
+		new String[] {
+			"p/X.java",
+			"package p;\n" +
+			"public class X {\n" +
+			"	class Inner {}\n" +
+			"}\n",
+			"Y.java",
+			"public class Y {}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "X.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+		+ " -1.8 -d \"" + jarPath + "\"",
+		"",
+		"",
+		true);
+	StringBuilder entries = new StringBuilder();
+	try (ZipFile jar = new ZipFile(jarPath)) {
+		for (Iterator<? extends ZipEntry> iterator = jar.stream().iterator(); iterator.hasNext();) {
+			ZipEntry entry = iterator.next();
+			entries.append(entry.getName()).append('\n');
+			if (entry.getName().endsWith(".class"))
+				assertTrue("Missing contents of " + entry.getName(), entry.getSize() > 0);
+		}
+	}
+	assertEquals("Unexpected entries",
+		"META-INF/MANIFEST.MF\n" +
+		"p/\n" +
+		"p/X$Inner.class\n" +
+		"p/X.class\n" +
+		"Y.class\n",
+		entries.toString());
+	String[] files = new File(OUTPUT_DIR, "bin").list();
+	assertEquals("Temporary file not removed", 1, files.length);
+}
+// each module of the module source path needs a destination directory of its own
+public void testDestinationJar_moduleSourcepath() {
+	this.runNegativeTest(
+		new String[] {
+			"mod.one/module-info.java",
+			"module mod.one {}\n",
+		},
+		"--module-source-path \"" + OUTPUT_DIR + "\""
+		+ " \"" + OUTPUT_DIR + File.separator + "mod.one" + File.separator + "module-info.java\""
+		+ " -9 -d \"" + OUTPUT_DIR + File.separator + "out.jar\"",
+		"",
+		"--module-source-path requires a destination directory, not a jar: ---OUTPUT_DIR_PLACEHOLDER---/out.jar\n",
+		true);
+	assertFalse("Destination created", new File(OUTPUT_DIR, "out.jar").exists());
+}
+// only the changed units and the units affected by structural changes are compiled with -incremental
+public void testIncremental() {
+	String commandLine =
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "A.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "q" + File.separator + "B.java\""
+		+ " %s -1.8 -proc:none -d \"" + OUTPUT_DIR + File.separator + "bin\""
+		+ " -incremental \"" + OUTPUT_DIR + File.separator + "state" + File.separator + "ecj.state\"";
+	String unitC = " \"" + OUTPUT_DIR +  File.separator + "q" + File.separator + "C.java\"";
+	File classA = new File(OUTPUT_DIR, "bin/p/A.class");
+	File classB = new File(OUTPUT_DIR, "bin/q/B.class");
+	File classC = new File(OUTPUT_DIR, "bin/q/C.class");
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int f() { return 1; }\n" +
+			"}\n",
+			"q/B.java",
+			"package q;\n" +
+			"public class B {\n" +
+			"	long g() { return new p.A().f(); }\n" +
+			"}\n",
+			"q/C.java",
+			"package q;\n" +
+			"public class C {}\n",
+		},
+		String.format(commandLine, unitC),
+		"",
+		"",
+		true);
+	assertTrue("Missing class files", classA.exists() && classB.exists() && classC.exists());
+
+	// change of a method body
+	classA.setLastModified(0);
+	classB.setLastModified(0);
+	classC.setLastModified(0);
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int f() { return 10; }\n" +
+			"}\n",
+		},
+		String.format(commandLine, unitC),
+		"",
+		"",
+		false);
+	assertTrue("A not compiled", classA.lastModified() != 0);
+	assertEquals("B compiled", 0, classB.lastModified());
+	assertEquals("C compiled", 0, classC.lastModified());
+
+	// structural change
+	classA.setLastModified(0);
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public long f() { return 10; }\n" +
+			"}\n",
+		},
+		String.format(commandLine, unitC),
+		"",
+		"",
+		false);
+	assertTrue("A not compiled", classA.lastModified() != 0);
+	assertTrue("B not compiled", classB.lastModified() != 0);
+	assertEquals("C compiled", 0, classC.lastModified());
+
+	// removed unit
+	new File(OUTPUT_DIR, "q/C.java").delete();
+	classA.setLastModified(0);
+	classB.setLastModified(0);
+	this.runConformTest(
+		new String[0],
+		String.format(commandLine, ""),
+		"",
+		"",
+		false);
+	assertFalse("Class file of removed unit not deleted", classC.exists());
+	assertEquals("A compiled", 0, classA.lastModified());
+	assertEquals("B compiled", 0, classB.lastModified());
+}
+// -time reports all the rounds of an incremental compilation
+public void testIncremental_time() {
+	String commandLine =
+		"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "A.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "q" + File.separator + "B.java\""
+		+ " -1.8 -proc:none -time -d \"" + OUTPUT_DIR + File.separator + "bin\""
+		+ " -incremental \"" + OUTPUT_DIR + File.separator + "state" + File.separator + "ecj.state\"";
+	Matcher outputMatcher = new StringMatcher(
+		"[compiled 8 lines in N ms: N lines/s]\n" +
+		"[2 .class files generated]\n",
+		new TimingNormalizer(outputDirNormalizer));
+	this.runTest(
+		true,
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public int f() { return 1; }\n" +
+			"}\n",
+			"q/B.java",
+			"package q;\n" +
+			"public class B {\n" +
+			"	long g() { return new p.A().f(); }\n" +
+			"}\n",
+		},
+		commandLine,
+		outputMatcher,
+		EMPTY_STRING_MATCHER,
+		true);
+	// A is compiled in the first round, B in the second one
+	this.runTest(
+		true,
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	public long f() { return 10; }\n" +
+			"}\n",
+		},
+		commandLine,
+		outputMatcher,
+		EMPTY_STRING_MATCHER,
+		false);
+}
+// -incremental needs a destination directory
+public void testIncremental_noDestination() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -d none"
+		+ " -incremental \"" + OUTPUT_DIR + File.separator + "ecj.state\"",
+		"",
+		"-incremental requires -d <directory>\n",
+		true);
+}
+// units processed by several workers report their problems and get their class files as with a single compiler
+public void testProcessingWorkers() {
+	String setting = System.getProperty("jdt.compiler.processingWorkers");
+	try {
+		System.setProperty("jdt.compiler.processingWorkers", "2");
+		this.runNegativeTest(
+			new String[] {
+				"p/A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				"	q.B b;\n" +
+				"	int f() { return \"x\"; }\n" +
+				"}\n",
+				"p/C.java",
+				"package p;\n" +
+				"public class C extends A {\n" +
+				"	void g() { new Object() {}; }\n" +
+				"}\n",
+				"p/D.java",
+				"package p;\n" +
+				"public class D {\n" +
+				"	Unknown u;\n" +
+				"}\n",
+				"src/q/B.java",
+				"package q;\n" +
+				"public class B {\n" +
+				"	String s = 1;\n" +
+				"}\n",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "D.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "C.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "p" + File.separator + "A.java\""
+			+ " -sourcepath \"" + OUTPUT_DIR + File.separator + "src\""
+			+ " -1.8 -proc:none -proceedOnError -d \"" + OUTPUT_DIR + File.separator + "bin\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/p/D.java (at line 3)\n" +
+			"	Unknown u;\n" +
+			"	^^^^^^^\n" +
+			"Unknown cannot be resolved to a type\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/p/A.java (at line 4)\n" +
+			"	int f() { return \"x\"; }\n" +
+			"	                 ^^^\n" +
+			"Type mismatch: cannot convert from String to int\n" +
+			"----------\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/src/q/B.java (at line 3)\n" +
+			"	String s = 1;\n" +
+			"	           ^\n" +
+			"Type mismatch: cannot convert from int to String\n" +
+			"----------\n" +
+			"3 problems (3 errors)\n",
+			true);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.processingWorkers");
+		else
+			System.setProperty("jdt.compiler.processingWorkers", setting);
+	}
+	String[] classFiles = { "p/A.class", "p/C.class", "p/C$1.class", "p/D.class", "q/B.class" };
+	for (String classFile : classFiles)
+		assertTrue("Missing class file " + classFile, new File(OUTPUT_DIR, "bin/" + classFile).exists());
+}
+// -time:detail reports the time of each phase, the cache counters and the time of the slowest units
+public void testTimeDetail() {
+	this.runTest(
+		true,
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	<T> T id(T t) { return t; }\n" +
+			"	int f() { Y.g(); Y.g(); return id(\"\").length() + id(\"\").length(); }\n" +
+			"}\n",
+			"Y.java",
+			"public class Y {\n" +
+			"	static void g() { int unused = 0; }\n" +
+			"}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+		+ " -1.8 -proc:none -warn:+unused -time:detail -d \"" + OUTPUT_DIR + File.separator + "bin\"",
+		new StringMatcher(
+			"[compiled 7 lines in N ms: N lines/s]\n" +
+			"[parse: N ms (N%), resolve: N ms (N%), analyze: N ms (N%), generate: N ms (N%) ]\n" +
+			"[N binary types loaded]\n" +
+			"[1 of 2 cacheable method invocations reused an inference result]\n" +
+			"[2 of 4 cacheable method lookups reused a previous result]\n" +
+			"[---OUTPUT_DIR_PLACEHOLDER---/X.java: N ms (parse: N ms, resolve: N ms, analyze: N ms, generate: N ms), N binary types loaded, 0 problems]\n" +
+			"[---OUTPUT_DIR_PLACEHOLDER---/Y.java: N ms (parse: N ms, resolve: N ms, analyze: N ms, generate: N ms), N binary types loaded, 1 problems]\n" +
+			"[2 .class files generated]\n",
+			new TimingNormalizer(outputDirNormalizer)),
+		new StringMatcher(
+			"----------\n" +
+			"1. WARNING in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 2)\n" +
+			"	static void g() { int unused = 0; }\n" +
+			"	                      ^^^^^^\n" +
+			"The value of the local variable unused is not used\n" +
+			"----------\n" +
+			"1 problem (1 warning)\n",
+			outputDirNormalizer),
+		true);
+}
 }
\ No newline at end of file
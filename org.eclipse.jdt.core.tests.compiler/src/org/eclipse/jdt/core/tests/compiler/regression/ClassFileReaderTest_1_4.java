@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2880,4 +2880,53 @@ public class ClassFileReaderTest_1_4 extends AbstractRegressionTest {
 		}
 	}
 
+	// the discarded <clinit> is removed from the constant pool without duplicating the entries that are looked up later
+	public void test081() throws Exception {
+		String source =
+			"public class X {\n" +
+			"	long n0 = 1;\n" +
+			"	boolean p1 = true;\n" +
+			"	static final char u2 = 'c';\n" +
+			"	boolean t3 = true;\n" +
+			"	void m(long p) {}\n" +
+			"}";
+		String expectedOutput =
+			"public class X {\n" +
+			"  Constant pool:\n" +
+			"    constant #1 class: #2 X\n" +
+			"    constant #2 utf8: \"X\"\n" +
+			"    constant #3 class: #4 java/lang/Object\n" +
+			"    constant #4 utf8: \"java/lang/Object\"\n" +
+			"    constant #5 utf8: \"n0\"\n" +
+			"    constant #6 utf8: \"J\"\n" +
+			"    constant #7 utf8: \"p1\"\n" +
+			"    constant #8 utf8: \"Z\"\n" +
+			"    constant #9 utf8: \"u2\"\n" +
+			"    constant #10 utf8: \"C\"\n" +
+			"    constant #11 utf8: \"ConstantValue\"\n" +
+			"    constant #12 integer: 99\n" +
+			"    constant #13 utf8: \"t3\"\n" +
+			"    constant #14 utf8: \"<init>\"\n" +
+			"    constant #15 utf8: \"()V\"\n" +
+			"    constant #16 utf8: \"Code\"\n" +
+			"    constant #17 method_ref: #3.#18 java/lang/Object.<init> ()V\n" +
+			"    constant #18 name_and_type: #14.#15 <init> ()V\n" +
+			"    constant #19 field_ref: #1.#20 X.n0 J\n" +
+			"    constant #20 name_and_type: #5.#6 n0 J\n" +
+			"    constant #21 field_ref: #1.#22 X.p1 Z\n" +
+			"    constant #22 name_and_type: #7.#8 p1 Z\n" +
+			"    constant #23 field_ref: #1.#24 X.t3 Z\n" +
+			"    constant #24 name_and_type: #13.#8 t3 Z\n" +
+			"    constant #25 utf8: \"LineNumberTable\"\n" +
+			"    constant #26 utf8: \"LocalVariableTable\"\n" +
+			"    constant #27 utf8: \"this\"\n" +
+			"    constant #28 utf8: \"LX;\"\n" +
+			"    constant #29 utf8: \"m\"\n" +
+			"    constant #30 utf8: \"(J)V\"\n" +
+			"    constant #31 utf8: \"p\"\n" +
+			"    constant #32 utf8: \"SourceFile\"\n" +
+			"    constant #33 utf8: \"X.java\"\n";
+		checkClassFile("X", source, expectedOutput);
+	}
+
 }
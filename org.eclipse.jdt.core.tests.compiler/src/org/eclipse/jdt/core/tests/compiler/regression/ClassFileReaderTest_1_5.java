@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,18 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import junit.framework.Test;
 import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.core.util.ClassFileBytesDisassembler;
 import org.eclipse.jdt.core.util.IClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryAnnotation;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+import org.eclipse.jdt.internal.compiler.impl.Constant;
 
 @SuppressWarnings({ "rawtypes" })
 public class ClassFileReaderTest_1_5 extends AbstractRegressionTest {
@@ -614,4 +621,154 @@ public class ClassFileReaderTest_1_5 extends AbstractRegressionTest {
 		checkClassFile("test", "AllTests", "AllTests", source, expectedOutput, mode, true/*suppress expected errors*/);
 	}
 
+	/**
+	 * Fields and methods of readers of the run-time image are only decoded on first access, the answers must be the
+	 * same as those of a fully initialized reader and the class attributes behind the members must be read anyway.
+	 */
+	public void testLazyMembers() throws Exception {
+		String source =
+			"import java.lang.annotation.Retention;\n" +
+			"import static java.lang.annotation.RetentionPolicy.*;\n" +
+			"@Annot(3)\n" +
+			"public class X {\n" +
+			"	@Annot(1) public static final int I = 12;\n" +
+			"	@Annot String s;\n" +
+			"	public <T extends Comparable<T>> T foo(@Annot(2) T t, int... rest) throws Exception { return t; }\n" +
+			"	class Member {}\n" +
+			"}\n" +
+			"@Retention(CLASS)\n" +
+			"@interface Annot {\n" +
+			"	int value() default -1;\n" +
+			"	String[] names() default { \"a\", \"b\" };\n" +
+			"}";
+		compileAndDeploy(source, "", "X", false);
+		try {
+			for (String className : new String[] { "X", "Annot" }) {
+				byte[] bytes = Files.readAllBytes(new File(EVAL_DIRECTORY, className + ".class").toPath());
+				ClassFileReader lazy = ClassFileReader.readFromRuntimeImage(null, bytes, (className + ".class").toCharArray());
+				assertEquals("Wrong source file", "X.java", new String(lazy.sourceFileName()));
+				ClassFileReader initialized = ClassFileReader.read(bytes, className + ".class", true);
+				String members = printMembers(lazy);
+				assertEquals("Lazily decoded members differ", printMembers(initialized), members);
+				assertSame("Members must be decoded once", lazy.getMethods(), lazy.getMethods());
+			}
+			ClassFileReader reader = ClassFileReader.readFromRuntimeImage(null, Files.readAllBytes(new File(EVAL_DIRECTORY, "X.class").toPath()), "X.class".toCharArray());
+			assertEquals("Wrong annotations", 1, reader.getAnnotations().length);
+			assertEquals("Wrong member types", 1, reader.getMemberTypes().length);
+			assertEquals("Wrong members",
+				"field I I 25 12 1\n" +
+				"field s Ljava/lang/String; 0 - 1\n" +
+				"method <init> ()V 1 null 0\n" +
+				"method foo <T::Ljava/lang/Comparable<TT;>;>(TT;[I)TT; 129 null 0 [java/lang/Exception]\n",
+				printMembers(reader));
+		} finally {
+			removeTempClass("X");
+		}
+	}
+
+	/**
+	 * Other readers decode the members in their constructor, which reports malformed ones: a corrupted byte must either
+	 * be rejected by the constructor, or the members must decode without errors.
+	 */
+	public void testMembers_malformed() throws Exception {
+		String source =
+			"import java.lang.annotation.*;\n" +
+			"public class X {\n" +
+			"	@Deprecated @Annot(1) public static final int I = 12;\n" +
+			"	@Annot(names = { \"c\" }) java.util.List<@TA String> s;\n" +
+			"	public <T extends Comparable<T>> T foo(@Annot(2) T t, @TA int... rest) throws Exception { return t; }\n" +
+			"}\n" +
+			"@Retention(RetentionPolicy.CLASS)\n" +
+			"@interface Annot {\n" +
+			"	int value() default -1;\n" +
+			"	String[] names() default { \"a\", \"b\" };\n" +
+			"	Class<?> type() default Object.class;\n" +
+			"	RetentionPolicy policy() default RetentionPolicy.SOURCE;\n" +
+			"	double d() default 1.5;\n" +
+			"}\n" +
+			"@Target(ElementType.TYPE_USE)\n" +
+			"@interface TA {}";
+		compileAndDeploy(source, "", "X", false);
+		try {
+			StringBuilder failures = new StringBuilder();
+			for (String className : new String[] { "X", "Annot" }) {
+				byte[] bytes = Files.readAllBytes(new File(EVAL_DIRECTORY, className + ".class").toPath());
+				for (int i = 0; i < bytes.length; i++) {
+					for (byte value : new byte[] { 0, (byte) 0xFF }) {
+						byte[] corrupted = bytes.clone();
+						corrupted[i] = value;
+						ClassFileReader reader;
+						try {
+							reader = ClassFileReader.read(corrupted, className + ".class", false);
+						} catch (ClassFormatException e) {
+							continue;
+						}
+						try {
+							IBinaryField[] fields = reader.getFields();
+							if (fields != null) {
+								for (IBinaryField field : fields) {
+									field.getAnnotations();
+									field.getTypeAnnotations();
+								}
+							}
+							IBinaryMethod[] methods = reader.getMethods();
+							if (methods != null) {
+								for (IBinaryMethod method : methods) {
+									method.getAnnotations();
+									method.getTypeAnnotations();
+									method.getDefaultValue();
+									if (method.getAnnotatedParametersCount() > 0)
+										method.getParameterAnnotations(0, null);
+								}
+							}
+						} catch (RuntimeException e) {
+							failures.append(className).append(" byte ").append(i).append(" = ").append(value).append(": ").append(e).append('\n');
+						}
+					}
+				}
+			}
+			assertEquals("Unexpected decoding failures", "", failures.toString());
+		} finally {
+			removeTempClass("X");
+		}
+	}
+
+	private String printMembers(ClassFileReader reader) {
+		StringBuilder buffer = new StringBuilder();
+		IBinaryField[] fields = reader.getFields();
+		if (fields != null) {
+			for (IBinaryField field : fields) {
+				IBinaryAnnotation[] annotations = field.getAnnotations();
+				buffer.append("field ").append(field.getName()).append(' ').append(field.getTypeName()).append(' ')
+					.append(field.getModifiers() & 0xFFFF).append(' ').append(field.getConstant() == Constant.NotAConstant ? "-" : field.getConstant().stringValue()).append(' ')
+					.append(annotations == null ? 0 : annotations.length).append('\n');
+			}
+		}
+		IBinaryMethod[] methods = reader.getMethods();
+		if (methods != null) {
+			for (IBinaryMethod method : methods) {
+				char[] genericSignature = method.getGenericSignature();
+				IBinaryAnnotation[] annotations = method.getAnnotations();
+				Object defaultValue = method.getDefaultValue();
+				buffer.append("method ").append(method.getSelector()).append(' ')
+					.append(genericSignature != null ? genericSignature : method.getMethodDescriptor()).append(' ')
+					.append(method.getModifiers() & 0xFFFF).append(' ')
+					.append(defaultValue instanceof Object[] values ? values.length + " values" : String.valueOf(defaultValue)).append(' ')
+					.append(annotations == null ? 0 : annotations.length);
+				char[][] exceptionTypeNames = method.getExceptionTypeNames();
+				if (exceptionTypeNames != null && exceptionTypeNames.length > 0) {
+					buffer.append(" [");
+					for (int i = 0; i < exceptionTypeNames.length; i++) {
+						if (i > 0)
+							buffer.append(", ");
+						buffer.append(exceptionTypeNames[i]);
+					}
+					buffer.append(']');
+				}
+				buffer.append('\n');
+			}
+		}
+		return buffer.toString();
+	}
+
 }
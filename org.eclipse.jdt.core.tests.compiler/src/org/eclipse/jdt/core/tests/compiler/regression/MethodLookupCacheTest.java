@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import java.util.Locale;
+import junit.framework.Test;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+
+/**
+ * Repeats message sends whose lookup is answered by the method lookup cache after the first one, and checks that the
+ * cached methods get the same problems and code as the ones found by a full lookup.
+ */
+@SuppressWarnings("rawtypes")
+public class MethodLookupCacheTest extends AbstractRegressionTest {
+
+public MethodLookupCacheTest(String name) {
+	super(name);
+}
+public static Test suite() {
+	return buildMinimalComplianceTestSuite(testClass(), F_1_8);
+}
+public static Class testClass() {
+	return MethodLookupCacheTest.class;
+}
+// protected methods invoked from subclasses and from their inner types, which need synthetic accessors
+public void testProtectedAccess() {
+	this.runConformTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	protected String m() {\n" +
+			"		return \"m\";\n" +
+			"	}\n" +
+			"}\n",
+			"q/B.java",
+			"package q;\n" +
+			"public class B extends p.A {\n" +
+			"	class Inner {\n" +
+			"		String f(B b) {\n" +
+			"			return b.m() + b.m();\n" +
+			"		}\n" +
+			"	}\n" +
+			"	String g(B b) {\n" +
+			"		return b.m() + b.m();\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		B b = new B();\n" +
+			"		System.out.println(b.g(b) + b.new Inner().f(b) + new C().h(new C()));\n" +
+			"	}\n" +
+			"}\n" +
+			"class C extends B {\n" +
+			"	String h(C c) {\n" +
+			"		return c.m() + new Object() {\n" +
+			"			String i() {\n" +
+			"				return c.m();\n" +
+			"			}\n" +
+			"		}.i();\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"mmmmmm");
+}
+// the same protected method is visible or not depending on the receiver and the invoking type
+public void testProtectedAccess_notVisible() {
+	this.runNegativeTest(
+		new String[] {
+			"p/A.java",
+			"package p;\n" +
+			"public class A {\n" +
+			"	protected String m() {\n" +
+			"		return \"m\";\n" +
+			"	}\n" +
+			"}\n",
+			"q/D.java",
+			"package q;\n" +
+			"public class D extends p.A {\n" +
+			"	void f(p.A a, D d) {\n" +
+			"		d.m();\n" +
+			"		a.m();\n" +
+			"		d.m();\n" +
+			"		a.m();\n" +
+			"	}\n" +
+			"}\n" +
+			"class E {\n" +
+			"	void f(D d) {\n" +
+			"		d.m();\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in q\\D.java (at line 5)\n" +
+		"	a.m();\n" +
+		"	  ^\n" +
+		"The method m() from the type A is not visible\n" +
+		"----------\n" +
+		"2. ERROR in q\\D.java (at line 7)\n" +
+		"	a.m();\n" +
+		"	  ^\n" +
+		"The method m() from the type A is not visible\n" +
+		"----------\n" +
+		"3. ERROR in q\\D.java (at line 12)\n" +
+		"	d.m();\n" +
+		"	  ^\n" +
+		"The method m() from the type A is not visible\n" +
+		"----------\n");
+}
+public void testVarargs() {
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	static String v(String... s) {\n" +
+			"		return \"v\" + s.length;\n" +
+			"	}\n" +
+			"	static String v(String s) {\n" +
+			"		return \"1\";\n" +
+			"	}\n" +
+			"	static String w(Object... o) {\n" +
+			"		return \"w\" + o.length;\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		System.out.println(X.v(\"a\") + X.v(\"a\") + X.v() + X.v() + X.v(\"a\", \"b\") + X.v(\"a\", \"b\")\n" +
+			"				+ X.w(args) + X.w(args) + X.w((Object) args) + X.w((Object) args));\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"11v0v0v2v2w0w0w1w1");
+}
+// the return type of getClass() depends on the receiver type
+public void testGetClass() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	Class<? extends String> c1;\n" +
+			"	Class<? extends Integer> c2;\n" +
+			"	void f(String s, Integer i) {\n" +
+			"		this.c1 = s.getClass();\n" +
+			"		this.c2 = i.getClass();\n" +
+			"		this.c1 = s.getClass();\n" +
+			"		this.c2 = i.getClass();\n" +
+			"		this.c1 = i.getClass();\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 9)\n" +
+		"	this.c1 = i.getClass();\n" +
+		"	          ^^^^^^^^^^^^\n" +
+		"Type mismatch: cannot convert from Class<capture#10-of ? extends Integer> to Class<? extends String>\n" +
+		"----------\n");
+}
+public void testStaticAndTypeAccess() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"	String m() {\n" +
+			"		return \"m\";\n" +
+			"	}\n" +
+			"	static String s() {\n" +
+			"		return \"s\";\n" +
+			"	}\n" +
+			"	void f(X x) {\n" +
+			"		x.m();\n" +
+			"		X.m();\n" +
+			"		x.m();\n" +
+			"		X.m();\n" +
+			"		x.s();\n" +
+			"		X.s();\n" +
+			"		x.s();\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 10)\n" +
+		"	X.m();\n" +
+		"	^^^^^\n" +
+		"Cannot make a static reference to the non-static method m() from the type X\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 12)\n" +
+		"	X.m();\n" +
+		"	^^^^^\n" +
+		"Cannot make a static reference to the non-static method m() from the type X\n" +
+		"----------\n" +
+		"3. WARNING in X.java (at line 13)\n" +
+		"	x.s();\n" +
+		"	^^^^^\n" +
+		"The static method s() from the type X should be accessed in a static way\n" +
+		"----------\n" +
+		"4. WARNING in X.java (at line 15)\n" +
+		"	x.s();\n" +
+		"	^^^^^\n" +
+		"The static method s() from the type X should be accessed in a static way\n" +
+		"----------\n");
+}
+public void testRepeatedMessageSends() {
+	FileSystem nameEnvironment = new FileSystem(Util.getJavaClassLibs(), new String[0], null);
+	Requestor requestor = new Requestor(false, null /*no custom requestor*/, false, /* show category */ false /* show warning token*/);
+	Compiler compiler = new Compiler(nameEnvironment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+			new CompilerOptions(getCompilerOptions()), requestor, new DefaultProblemFactory(Locale.getDefault()));
+	String source =
+		"public class X {\n" +
+		"	String f(StringBuilder b) {\n" +
+		"		b.append(\"a\");\n" +
+		"		b.append(\"b\");\n" +
+		"		b.append(\"c\");\n" +
+		"		return b.toString();\n" +
+		"	}\n" +
+		"}\n";
+	try {
+		compiler.compile(new ICompilationUnit[] { new CompilationUnit(source.toCharArray(), "X.java", null) });
+	} finally {
+		nameEnvironment.cleanup();
+	}
+	assertEquals("Unexpected problems", "", requestor.problemLog);
+	assertEquals("Unexpected cache hits", 2, compiler.stats.methodLookupCacheHits);
+	assertEquals("Unexpected cache misses", 2, compiler.stats.methodLookupCacheMisses);
+}
+}
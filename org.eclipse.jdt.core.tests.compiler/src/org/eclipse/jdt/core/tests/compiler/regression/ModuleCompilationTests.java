@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -6041,4 +6041,107 @@ public void testBug521362_emptyFile() {
 					1 problem (1 warning)
 					""");
 	}
+	public void testParallelModules() {
+		File outputDirectory = new File(OUTPUT_DIR);
+		Util.flushDirectoryContent(outputDirectory);
+		String out = "bin";
+		String directory = OUTPUT_DIR + File.separator + "src";
+		List<String> files = new ArrayList<>();
+		String moduleLoc = directory + File.separator + "mod.one";
+		writeFileCollecting(files, moduleLoc, "module-info.java",
+						"module mod.one { \n" +
+						"	exports p;\n" +
+						"	requires transitive java.sql;\n" +
+						"}");
+		writeFileCollecting(files, moduleLoc + File.separator + "p", "X.java",
+						"package p;\n" +
+						"public class X {\n" +
+						"	public static java.sql.Connection getConnection() {\n" +
+						"		return null;\n" +
+						"	}\n" +
+						"}");
+		moduleLoc = directory + File.separator + "mod.two";
+		writeFileCollecting(files, moduleLoc, "module-info.java",
+						"module mod.two { \n" +
+						"	exports q;\n" +
+						"	requires transitive mod.one;\n" +
+						"}");
+		writeFileCollecting(files, moduleLoc + File.separator + "q", "Y.java",
+						"package q;\n" +
+						"public class Y extends p.X {\n" +
+						"	public static java.sql.Connection con = getConnection();\n" +
+						"}");
+		moduleLoc = directory + File.separator + "mod.three";
+		writeFileCollecting(files, moduleLoc, "module-info.java",
+						"module mod.three { \n" +
+						"	requires mod.two;\n" +
+						"}");
+		writeFileCollecting(files, moduleLoc + File.separator + "r", "Z.java",
+						"package r;\n" +
+						"public class Z {\n" +
+						"	java.sql.Connection con = q.Y.con;\n" +
+						"}");
+		moduleLoc = directory + File.separator + "mod.four";
+		writeFileCollecting(files, moduleLoc, "module-info.java",
+						"module mod.four { \n" +
+						"	requires java.logging;\n" +
+						"}");
+		writeFileCollecting(files, moduleLoc + File.separator + "s", "W.java",
+						"package s;\n" +
+						"public class W {\n" +
+						"	java.util.logging.Logger logger;\n" +
+						"}");
+
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("-d " + OUTPUT_DIR + File.separator + out )
+			.append(" -9 ")
+			.append(" -proc:none ")
+			.append(" -classpath \"")
+			.append(Util.getJavaClassLibsAsString())
+			.append("\" ")
+			.append(" --module-source-path " + "\"" + directory + "\"");
+
+		String commandLine = buffer.toString();
+		String setting = System.getProperty("jdt.compiler.parallelModules");
+		try {
+			System.setProperty("jdt.compiler.parallelModules", "true");
+			runConformModuleTest(files,
+					buffer,
+					"",
+					"");
+			String binDirectory = OUTPUT_DIR + File.separator + out;
+			assertTrue("Missing class file", new File(binDirectory + File.separator + "mod.three" + File.separator + "r" + File.separator + "Z.class").exists());
+			assertTrue("Missing class file", new File(binDirectory + File.separator + "mod.four" + File.separator + "s" + File.separator + "W.class").exists());
+
+			// unlike the sequential compilation, the parallel one skips mod.three once mod.two has errors
+			writeFileCollecting(new ArrayList<>(), directory + File.separator + "mod.two" + File.separator + "q", "Y.java",
+							"package q;\n" +
+							"public class Y extends p.X {\n" +
+							"	public static java.sql.Connection con = getConnection(0);\n" +
+							"}");
+			writeFileCollecting(new ArrayList<>(), directory + File.separator + "mod.three" + File.separator + "r", "Z.java",
+							"package r;\n" +
+							"public class Z {\n" +
+							"	String con = q.Y.con;\n" +
+							"}");
+			StringBuilder negativeCommandLine = new StringBuilder(commandLine);
+			files.forEach(name -> negativeCommandLine.append(" \"" + name + "\""));
+			runNegativeTest(new String[0],
+					negativeCommandLine.toString(),
+					"",
+					"----------\n" +
+					"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/src/mod.two/q/Y.java (at line 3)\n" +
+					"	public static java.sql.Connection con = getConnection(0);\n" +
+					"	                                        ^^^^^^^^^^^^^\n" +
+					"The method getConnection() in the type X is not applicable for the arguments (int)\n" +
+					"----------\n" +
+					"1 problem (1 error)\n",
+					false);
+		} finally {
+			if (setting == null)
+				System.clearProperty("jdt.compiler.parallelModules");
+			else
+				System.setProperty("jdt.compiler.parallelModules", setting);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -859,6 +859,61 @@ public void test2500_addInitializationsFrom_for_definites() {
 	assertTrue("nb of failures: " + failures, failures == 0);
 }
 
+// copies share the extra bits of the flow info they are made from, modifying any of the sharing flow infos must
+// not affect the others
+public void test2600_copy_of_extra_bits() {
+	TestLocalVariableBinding local256 = new TestLocalVariableBinding(256);
+	UnconditionalFlowInfo info = FlowInfo.initial(0);
+	info.markAsDefinitelyAssigned(TestLocalVariableBinding.local64);
+	info.markAsDefinitelyNonNull(TestLocalVariableBinding.local64);
+	info.markAsDefinitelyAssigned(TestLocalVariableBinding.local128);
+	UnconditionalFlowInfo copy = (UnconditionalFlowInfo) info.copy();
+	copy.markAsDefinitelyNull(TestLocalVariableBinding.local64);
+	assertTrue("original modified by its copy", info.isDefinitelyNonNull(TestLocalVariableBinding.local64));
+	assertTrue("copy not modified", copy.isDefinitelyNull(TestLocalVariableBinding.local64));
+	info.markAsDefinitelyNull(TestLocalVariableBinding.local128);
+	assertFalse("copy modified by its original", copy.isDefinitelyNull(TestLocalVariableBinding.local128));
+	assertTrue("original not modified", info.isDefinitelyNull(TestLocalVariableBinding.local128));
+	// copy of a copy
+	UnconditionalFlowInfo first = (UnconditionalFlowInfo) info.copy();
+	UnconditionalFlowInfo second = (UnconditionalFlowInfo) first.copy();
+	second.resetAssignmentInfo(TestLocalVariableBinding.local64);
+	assertFalse("copy not modified", second.isDefinitelyAssigned(TestLocalVariableBinding.local64));
+	assertTrue("sharing flow infos modified",
+		first.isDefinitelyAssigned(TestLocalVariableBinding.local64) && info.isDefinitelyAssigned(TestLocalVariableBinding.local64));
+	first.markAsDefinitelyUnknown(TestLocalVariableBinding.local64);
+	assertTrue("copy not modified", first.isDefinitelyUnknown(TestLocalVariableBinding.local64));
+	assertTrue("sharing flow infos modified",
+		info.isDefinitelyNonNull(TestLocalVariableBinding.local64) && second.isDefinitelyNonNull(TestLocalVariableBinding.local64));
+	// merges into a copy
+	UnconditionalFlowInfo merged = ((UnconditionalFlowInfo) info.copy()).mergedWith(copy);
+	assertTrue("wrong merge", merged.isPotentiallyNull(TestLocalVariableBinding.local64));
+	assertTrue("merged flow infos modified",
+		info.isDefinitelyNonNull(TestLocalVariableBinding.local64) && copy.isDefinitelyNull(TestLocalVariableBinding.local64));
+	UnconditionalFlowInfo added = (UnconditionalFlowInfo) info.copy();
+	added.addInitializationsFrom(copy);
+	assertTrue("wrong addition", added.isDefinitelyNull(TestLocalVariableBinding.local64));
+	assertTrue("original modified", info.isDefinitelyNonNull(TestLocalVariableBinding.local64));
+	UnconditionalFlowInfo discarded = (UnconditionalFlowInfo) info.copy();
+	discarded.discardInitializationInfo();
+	assertFalse("initialization info not discarded", discarded.isDefinitelyAssigned(TestLocalVariableBinding.local128));
+	assertTrue("original modified", info.isDefinitelyAssigned(TestLocalVariableBinding.local128));
+	// growing the extra bits of a copy
+	UnconditionalFlowInfo grown = (UnconditionalFlowInfo) info.copy();
+	grown.markAsDefinitelyAssigned(local256);
+	assertTrue("copy not modified", grown.isDefinitelyAssigned(local256));
+	assertFalse("original modified", info.isDefinitelyAssigned(local256));
+	info.markAsDefinitelyUnknown(TestLocalVariableBinding.local64);
+	assertTrue("grown copy modified", grown.isDefinitelyNonNull(TestLocalVariableBinding.local64));
+	// flow infos without null info
+	UnconditionalFlowInfo assignments = FlowInfo.initial(0);
+	assignments.markAsDefinitelyAssigned(TestLocalVariableBinding.local128);
+	UnconditionalFlowInfo assignmentsCopy = (UnconditionalFlowInfo) assignments.copy();
+	assignmentsCopy.markAsDefinitelyAssigned(TestLocalVariableBinding.local64);
+	assertFalse("original modified", assignments.isDefinitelyAssigned(TestLocalVariableBinding.local64));
+	assertTrue("copy lost assignments", assignmentsCopy.isDefinitelyAssigned(TestLocalVariableBinding.local128));
+}
+
 // Use for coverage tests only. Needs specific instrumentation of code,
 // that is controled by UnconditionalFlowInfo#coverageTestFlag.
 // Note: coverage tests tend to fill the console with messages, and the
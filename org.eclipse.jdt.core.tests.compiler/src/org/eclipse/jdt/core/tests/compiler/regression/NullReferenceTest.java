@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18484,4 +18484,109 @@ public void testGH1755() {
 		----------
 		""");
 }
+// flow infos of methods with more than 64 locals share their extra bits when copied, until one of them is modified
+public void testExtraBitsOfCopiedFlowInfos() {
+	runNegativeNullTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"  Object bar() { return null; }\n" +
+			"  void foo(Object o, boolean b, int k) {\n" +
+			"    int i00, i01, i02, i03, i04, i05, i06, i07, i08, i09;\n" +
+			"    int i10, i11, i12, i13, i14, i15, i16, i17, i18, i19;\n" +
+			"    int i20, i21, i22, i23, i24, i25, i26, i27, i28, i29;\n" +
+			"    int i30, i31, i32, i33, i34, i35, i36, i37, i38, i39;\n" +
+			"    int i40, i41, i42, i43, i44, i45, i46, i47, i48, i49;\n" +
+			"    int i50, i51, i52, i53, i54, i55, i56, i57, i58, i59;\n" +
+			"    int i60, i61, i62, i63, i64, i65, i66, i67, i68, i69;\n" +
+			"    Object p = null, q = o, r;\n" +
+			"    int n;\n" +
+			"    if (b) {\n" +
+			"      p = bar();\n" +
+			"      n = 1;\n" +
+			"    } else {\n" +
+			"      q = null;\n" +
+			"    }\n" +
+			"    p.toString();\n" +
+			"    q.toString();\n" +
+			"    System.out.println(n);\n" +
+			"    while (k > 0) {\n" +
+			"      r = \"r\";\n" +
+			"      if (k == 1)\n" +
+			"        p = null;\n" +
+			"      k--;\n" +
+			"    }\n" +
+			"    r.toString();\n" +
+			"    p.toString();\n" +
+			"    Object s = null;\n" +
+			"    try {\n" +
+			"      s = bar();\n" +
+			"      if (s == null)\n" +
+			"        return;\n" +
+			"    } finally {\n" +
+			"      s.toString();\n" +
+			"    }\n" +
+			"    s.toString();\n" +
+			"    Object t = \"t\";\n" +
+			"    switch (k) {\n" +
+			"      case 0:\n" +
+			"        t = null;\n" +
+			"        break;\n" +
+			"      case 1:\n" +
+			"        t = bar();\n" +
+			"        break;\n" +
+			"      default:\n" +
+			"        break;\n" +
+			"    }\n" +
+			"    t.toString();\n" +
+			"    Object u = b ? null : \"u\";\n" +
+			"    if (u != null)\n" +
+			"      u.toString();\n" +
+			"    else\n" +
+			"      u.toString();\n" +
+			"  }\n" +
+			"}\n"
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 19)\n" +
+		"	p.toString();\n" +
+		"	^\n" +
+		"Potential null pointer access: The variable p may be null at this location\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 20)\n" +
+		"	q.toString();\n" +
+		"	^\n" +
+		"Potential null pointer access: The variable q may be null at this location\n" +
+		"----------\n" +
+		"3. ERROR in X.java (at line 21)\n" +
+		"	System.out.println(n);\n" +
+		"	                   ^\n" +
+		"The local variable n may not have been initialized\n" +
+		"----------\n" +
+		"4. ERROR in X.java (at line 28)\n" +
+		"	r.toString();\n" +
+		"	^\n" +
+		"The local variable r may not have been initialized\n" +
+		"----------\n" +
+		"5. ERROR in X.java (at line 29)\n" +
+		"	p.toString();\n" +
+		"	^\n" +
+		"Potential null pointer access: The variable p may be null at this location\n" +
+		"----------\n" +
+		"6. ERROR in X.java (at line 36)\n" +
+		"	s.toString();\n" +
+		"	^\n" +
+		"Potential null pointer access: The variable s may be null at this location\n" +
+		"----------\n" +
+		"7. ERROR in X.java (at line 50)\n" +
+		"	t.toString();\n" +
+		"	^\n" +
+		"Potential null pointer access: The variable t may be null at this location\n" +
+		"----------\n" +
+		"8. ERROR in X.java (at line 55)\n" +
+		"	u.toString();\n" +
+		"	^\n" +
+		"Null pointer access: The variable u can only be null at this location\n" +
+		"----------\n");
+}
 }
\ No newline at end of file
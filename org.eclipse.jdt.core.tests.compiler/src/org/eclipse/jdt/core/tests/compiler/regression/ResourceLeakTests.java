@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 GK Software SE and others.
+ * Copyright (c) 2011, 2026 GK Software SE and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -7458,4 +7458,60 @@ public void testGH4511() {
 	"",
 	compilerOptions);
 }
+// methods with more resources than the budget set by -Djdt.compiler.resourceLeakBudget are not analyzed at any exit
+public void testResourceLeakBudget() {
+	Map<String, String> compilerOptions = getCompilerOptions();
+	compilerOptions.put(CompilerOptions.OPTION_ReportUnclosedCloseable, CompilerOptions.ERROR);
+	String[] testFiles = new String[] {
+			"X.java",
+			"""
+			import java.io.FileReader;
+			import java.io.IOException;
+			public class X {
+				void small(String name) throws IOException {
+					FileReader reader = new FileReader(name);
+					reader.read();
+				}
+				void large(String name, boolean b) throws IOException {
+					FileReader r1 = new FileReader(name);
+					if (b)
+						return;
+					FileReader r2 = new FileReader(name);
+					FileReader r3 = new FileReader(name);
+					r1.close();
+					r2.close();
+					r3.close();
+				}
+			}
+			"""
+	};
+	String smallLeak =
+			"----------\n" +
+			"1. ERROR in X.java (at line 5)\n" +
+			"	FileReader reader = new FileReader(name);\n" +
+			"	           ^^^^^^\n" +
+			"Resource leak: 'reader' is never closed\n" +
+			"----------\n";
+	String property = "jdt.compiler.resourceLeakBudget";
+	String previous = System.getProperty(property);
+	try {
+		System.setProperty(property, "3");
+		runLeakTest(testFiles,
+			smallLeak +
+			"2. ERROR in X.java (at line 11)\n" +
+			"	return;\n" +
+			"	^^^^^^^\n" +
+			"Resource leak: 'r1' is not closed at this location\n" +
+			"----------\n",
+			compilerOptions);
+		// the early exit is checked before r2 and r3 are declared, but the whole method exceeds the budget
+		System.setProperty(property, "2");
+		runLeakTest(testFiles, smallLeak, compilerOptions);
+	} finally {
+		if (previous == null)
+			System.clearProperty(property);
+		else
+			System.setProperty(property, previous);
+	}
+}
 }
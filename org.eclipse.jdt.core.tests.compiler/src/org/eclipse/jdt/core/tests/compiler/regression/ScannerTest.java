@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.core.tests.compiler.regression;
 
 import static org.eclipse.jdt.internal.compiler.parser.TerminalToken.TokenNameEOF;
 
+import java.util.Arrays;
 import junit.framework.Test;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.ToolFactory;
@@ -2104,4 +2105,58 @@ public class ScannerTest extends AbstractRegressionTest {
 			"Method found: methodWithUnicodeChar\n" +
 			"Field found: fieldWithUnicodeChar");
 	}
+	/**
+	 * Positions must not be affected by the fast paths over indentations, comment texts and ASCII identifiers, even
+	 * when they are interrupted by unicode escapes or non ASCII characters.
+	 */
+	public void testFastPathPositions() throws InvalidInputException {
+		char[] source = ("class X {\n" +
+				"\t  \t// line comment with \\u0041 escape and \\\\ backslash\n" +
+				"    /* block comment ** with stars **/\n" +
+				"    /** javadoc\n" +
+				"     * @param x \\u002a/ still in the comment\n" +
+				"     */\n" +
+				"    int abc$_1\\u0041\u00e9 = 0;\n" +
+				"}").toCharArray();
+		Scanner scanner = new Scanner(true, true, false, ClassFileConstants.getLatestJDKLevel(), null, null, false);
+		scanner.recordLineSeparator = true;
+		scanner.setSource(source);
+		scanner.resetTo(0, source.length - 1);
+		TerminalToken token;
+		StringBuilder buffer = new StringBuilder();
+		while ((token = scanner.getNextToken()) != TerminalToken.TokenNameEOF) {
+			if (token != TerminalToken.TokenNameWHITESPACE) {
+				buffer.append(token.name()).append(' ')
+					.append(scanner.getCurrentTokenStartPosition()).append('-')
+					.append(scanner.getCurrentTokenEndPosition()).append('\n');
+			}
+		}
+		assertEquals("Wrong tokens",
+				"TokenNameclass 0-4\n" +
+				"TokenNameIdentifier 6-6\n" +
+				"TokenNameLBRACE 8-8\n" +
+				"TokenNameCOMMENT_LINE 14-65\n" +
+				"TokenNameCOMMENT_BLOCK 70-103\n" +
+				"TokenNameCOMMENT_JAVADOC 109-143\n" +
+				"TokenNameIdentifier 145-149\n" +
+				"TokenNameIdentifier 151-152\n" +
+				"TokenNameIdentifier 154-156\n" +
+				"TokenNameIdentifier 158-164\n" +
+				"TokenNameMULTIPLY 171-171\n" +
+				"TokenNameDIVIDE 172-172\n" +
+				"TokenNameint 178-180\n" +
+				"TokenNameIdentifier 182-194\n" +
+				"TokenNameEQUAL 196-196\n" +
+				"TokenNameIntegerLiteral 198-198\n" +
+				"TokenNameSEMICOLON 199-199\n" +
+				"TokenNameRBRACE 201-201\n",
+				String.valueOf(buffer));
+		assertEquals("Wrong line ends", "[9, 65, 104, 120, 165, 173, 200]", Arrays.toString(scanner.getLineEnds()));
+		assertEquals("Wrong tag start", 128, scanner.commentTagStarts[2]);
+
+		scanner.setSource("abcdef".toCharArray());
+		scanner.resetTo(0, 2);
+		assertEquals("Wrong token", TerminalToken.TokenNameIdentifier, scanner.getNextToken());
+		assertEquals("Wrong identifier", "abc", new String(scanner.getCurrentTokenSource()));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -4811,6 +4811,35 @@ public class SealedTypesTests extends AbstractRegressionTest9 {
 				"}";
 		verifyClassFile(expectedOutput, "X.class", ClassFileBytesDisassembler.SYSTEM);
 	}
+	// the bodies of the constants are resolved in the order A uses them, the permitted subclasses keep the source order
+	public void testBug565782_006() throws IOException, ClassFormatException {
+		runConformTest(
+			new String[] {
+				"A.java",
+				"public class A {\n"+
+				"    Object o = X.THREE;\n"+
+				"    int i = switch (X.TWO) { case TWO -> 2; default -> 0; };\n"+
+				"    public static void main(String[] args) {\n"+
+				"        System.out.println(new A().i);\n"+
+				"   }\n"+
+				"}",
+				"X.java",
+				"sealed interface I permits X {}\n"+
+				"enum X implements I {\n"+
+				"    ONE {},\n"+
+				"    TWO {},\n"+
+				"    THREE {};\n"+
+				"}",
+			},
+			"2");
+		String expectedOutput =
+				"PermittedSubclasses:\n" +
+				"   #16 X$1,\n" +
+				"   #25 X$2,\n" +
+				"   #31 X$3\n" +
+				"}";
+		verifyClassFile(expectedOutput, "X.class", ClassFileBytesDisassembler.SYSTEM);
+	}
 	public void testBug565847_001() {
 		this.runNegativeTest(
 			new String[] {
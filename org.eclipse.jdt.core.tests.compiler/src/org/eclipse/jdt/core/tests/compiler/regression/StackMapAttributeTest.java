@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -5578,4 +5578,65 @@ public class StackMapAttributeTest extends AbstractRegressionTest {
 			},
 			"pkg.Derived2");
 	}
+	// a large method with many branches, whose frames get their locals from one pass over the ranges of all locals: the
+	// expected frames are the ones generated when the locals were looked up for each frame
+	public void testManyBranches() throws Exception {
+		int cases = 500;
+		StringBuilder source = new StringBuilder(
+			"public class X {\n" +
+			"	static int run(int state, int[] data) {\n" +
+			"		int result = state;\n" +
+			"		switch (state) {\n");
+		for (int i = 0; i < cases; i++) {
+			source.append(
+				"		case " + i + ": {\n" +
+				"			int a = data[state];\n" +
+				"			if (a > result) {\n" +
+				"				for (long b = a; b > 0; b /= 2)\n" +
+				"					result++;\n" +
+				"			} else {\n" +
+				"				result -= a;\n" +
+				"			}\n" +
+				"			break;\n" +
+				"		}\n");
+		}
+		source.append(
+			"		default:\n" +
+			"			result = -1;\n" +
+			"		}\n" +
+			"		return result;\n" +
+			"	}\n" +
+			"	public static void main(String[] args) {\n" +
+			"		int[] data = new int[" + cases + "];\n" +
+			"		int sum = 0;\n" +
+			"		for (int i = 0; i < data.length; i++) {\n" +
+			"			data[i] = i % 7 * 100;\n" +
+			"			sum += run(i, data);\n" +
+			"		}\n" +
+			"		System.out.println(sum);\n" +
+			"	}\n" +
+			"}");
+		this.runConformTest(
+			new String[] {
+				"X.java",
+				source.toString(),
+			},
+			"99036");
+
+		// each case starts 44 bytes after the previous one, the jump table ending at 2016
+		StringBuilder expectedOutput = new StringBuilder(
+			"      Stack map table: number of frames " + (4 * cases + 2) + "\n" +
+			"        [pc: 2016, append: {int}]\n");
+		for (int i = 0; i < cases; i++) {
+			int start = 2016 + 44 * i;
+			expectedOutput.append(
+				"        [pc: " + (start + 16) + ", append: {int, long}]\n" +
+				"        [pc: " + (start + 27) + ", same]\n" +
+				"        [pc: " + (start + 37) + ", chop 1 local(s)]\n" +
+				"        [pc: " + (start + 44) + ", chop 1 local(s)]\n");
+		}
+		expectedOutput.append(
+			"        [pc: " + (2016 + 44 * cases + 2) + ", same]\n");
+		checkDisassembledClassFile(OUTPUT_DIR + File.separator + "X.class", "X", expectedOutput.toString());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,12 @@ import java.util.List;
 import junit.framework.Test;
 import junit.framework.TestSuite;
 import org.eclipse.jdt.core.tests.compiler.unicode.*;
+import org.eclipse.jdt.core.tests.compiler.util.ConstantPoolCacheTest;
+import org.eclipse.jdt.core.tests.compiler.util.DefaultProblemFactoryTest;
+import org.eclipse.jdt.core.tests.compiler.util.DirectoryListingCacheTest;
 import org.eclipse.jdt.core.tests.compiler.util.HashtableOfObjectTest;
+import org.eclipse.jdt.core.tests.compiler.util.JarClassCacheTest;
+import org.eclipse.jdt.core.tests.compiler.util.JarPackageIndexTest;
 import org.eclipse.jdt.core.tests.compiler.util.JrtUtilTest;
 import org.eclipse.jdt.core.tests.dom.StandAloneASTParserTest;
 import org.eclipse.jdt.core.tests.junit.extension.TestCase;
@@ -94,6 +99,7 @@ public static Test suite() {
 	standardTests.add(InitializationTests.class);
 	standardTests.add(ResourceLeakTests.class);
 	standardTests.add(PackageBindingTest.class);
+	standardTests.add(TypeSystemConcurrencyTest.class);
 	standardTests.add(NameEnvironmentAnswerListenerTest.class);
 	standardTests.add(XtextDependencies.class);
 
@@ -134,6 +140,7 @@ public static Test suite() {
 	standardTests.add(LambdaRegressionTest.class);
 	standardTests.add(SerializableLambdaTest.class);
 	standardTests.add(OverloadResolutionTest8.class);
+	standardTests.add(MethodLookupCacheTest.class);
 	standardTests.add(JSR335ClassFileTest.class);
 	standardTests.add(ExpressionContextTests.class);
 	standardTests.add(InterfaceMethodsTest.class);
@@ -271,6 +278,11 @@ public static Test suite() {
 	all.addTest(new TestSuite(StandAloneASTParserTest.class));
 	all.addTest(new TestSuite(HashtableOfObjectTest.class));
 	all.addTest(new TestSuite(JrtUtilTest.class));
+	all.addTest(new TestSuite(JarPackageIndexTest.class));
+	all.addTest(new TestSuite(JarClassCacheTest.class));
+	all.addTest(new TestSuite(DirectoryListingCacheTest.class));
+	all.addTest(new TestSuite(ConstantPoolCacheTest.class));
+	all.addTest(new TestSuite(DefaultProblemFactoryTest.class));
 
 	int possibleComplianceLevels = AbstractCompilerTest.getPossibleComplianceLevels();
 
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
+import org.eclipse.jdt.internal.compiler.ast.Wildcard;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.AnnotationBinding;
+import org.eclipse.jdt.internal.compiler.lookup.Binding;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
+
+/**
+ * Derives the same types from many threads at once and checks that every thread gets the same binding and that ids
+ * stay unique per naked type, for the plain and the annotatable type system.
+ */
+public class TypeSystemConcurrencyTest extends AbstractCompilerTest {
+
+	private static final int THREADS = 8;
+	private static final int TYPES = 4000;
+	private static final int BASE_TYPES = 8;
+
+	public TypeSystemConcurrencyTest(String name) {
+		super(name);
+	}
+
+	public void testTypeSystem() throws Exception {
+		runConcurrently(new CompilerOptions(), false);
+	}
+
+	public void testAnnotatableTypeSystem() throws Exception {
+		CompilerOptions options = new CompilerOptions();
+		options.storeAnnotations = true;
+		runConcurrently(options, true);
+	}
+
+	private void runConcurrently(CompilerOptions options, boolean annotate) throws Exception {
+		LookupEnvironment environment = new LookupEnvironment(null, options, null, new EmptyNameEnvironment());
+		ReferenceBinding[] baseTypes = new ReferenceBinding[BASE_TYPES];
+		for (int i = 0; i < BASE_TYPES; i++) {
+			baseTypes[i] = environment.createMissingType(null, new char[][] { "p".toCharArray(), ("T" + i).toCharArray() }); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		AnnotationBinding[] annotations = annotate
+				? new AnnotationBinding[] { environment.createAnnotation(environment.createMissingType(null, new char[][] { "p".toCharArray(), "A".toCharArray() }), Binding.NO_ELEMENT_VALUE_PAIRS) } //$NON-NLS-1$ //$NON-NLS-2$
+				: null;
+
+		TypeBinding[][] results = new TypeBinding[THREADS][];
+		CyclicBarrier start = new CyclicBarrier(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					TypeBinding[] types = new TypeBinding[TYPES];
+					for (int i = 0; i < TYPES; i++) {
+						int index = (i + thread * (TYPES / THREADS)) % TYPES; // every thread starts at another type
+						types[index] = derive(environment, baseTypes, annotations, index);
+					}
+					results[thread] = types;
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Map<Integer, TypeBinding> nakedTypesOfIds = new HashMap<>();
+		for (int i = 0; i < TYPES; i++) {
+			TypeBinding type = results[0][i];
+			assertNotNull("Missing type " + i, type); //$NON-NLS-1$
+			for (int t = 1; t < THREADS; t++) {
+				assertSame("Type " + i + " differs in thread " + t, type, results[t][i]); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			TypeBinding nakedType = type.unannotated();
+			assertEquals("Annotated variant must share the id of its naked type", nakedType.id, type.id); //$NON-NLS-1$
+			TypeBinding previous = nakedTypesOfIds.put(nakedType.id, nakedType);
+			assertTrue("Id " + nakedType.id + " was given to different types", previous == null || previous == nakedType); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static TypeBinding derive(LookupEnvironment environment, ReferenceBinding[] baseTypes, AnnotationBinding[] annotations, int index) {
+		ReferenceBinding genericType = baseTypes[index % BASE_TYPES];
+		ReferenceBinding argument = baseTypes[(index / BASE_TYPES) % BASE_TYPES];
+		ReferenceBinding otherArgument = baseTypes[(index / (BASE_TYPES * BASE_TYPES)) % BASE_TYPES];
+		TypeBinding type;
+		switch (index % 4) {
+			case 0:
+				type = environment.createArrayType(argument, 1 + (index / 64) % 3);
+				break;
+			case 1:
+				type = environment.createParameterizedType(genericType, new TypeBinding[] { argument, otherArgument }, null);
+				break;
+			case 2:
+				type = environment.createWildcard(genericType, index % 3, argument, null, Wildcard.EXTENDS);
+				break;
+			default:
+				type = environment.createRawType(genericType, null);
+				break;
+		}
+		if (annotations != null && (index & 8) != 0)
+			type = environment.createAnnotatedType(type, annotations);
+		return type;
+	}
+
+	private static class EmptyNameEnvironment implements INameEnvironment {
+		@Override
+		public NameEnvironmentAnswer findType(char[][] compoundTypeName) {
+			return null;
+		}
+
+		@Override
+		public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName) {
+			return null;
+		}
+
+		@Override
+		public boolean isPackage(char[][] parentPackageName, char[] packageName) {
+			return false;
+		}
+
+		@Override
+		public void cleanup() {
+		}
+	}
+}
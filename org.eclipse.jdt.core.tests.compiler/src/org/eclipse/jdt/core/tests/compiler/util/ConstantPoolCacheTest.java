@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.codegen.ConstantPoolCache;
+
+public class ConstantPoolCacheTest extends TestCase {
+
+	public ConstantPoolCacheTest(String name) {
+		super(name);
+	}
+
+	public void testKinds() {
+		ConstantPoolCache cache = new ConstantPoolCache();
+		char[] name = "foo".toCharArray();
+		assertEquals(-1, cache.putIfAbsent(ConstantPoolCache.UTF8, name, 1));
+		assertEquals(-2, cache.putIfAbsent(ConstantPoolCache.STRING, name, 2));
+		assertEquals(1, cache.putIfAbsent(ConstantPoolCache.UTF8, "foo".toCharArray(), 3));
+		assertEquals(2, cache.putIfAbsent(ConstantPoolCache.STRING, "foo".toCharArray(), 3));
+
+		char[] type = "p/X".toCharArray(), signature = "()V".toCharArray();
+		assertEquals(-3, cache.putIfAbsent(ConstantPoolCache.FIELD_OR_METHOD, type, name, signature, 0, 3));
+		assertEquals(-4, cache.putIfAbsent(ConstantPoolCache.NAME_AND_TYPE, name, signature, null, 0, 4));
+		assertEquals(-5, cache.putIfAbsent(ConstantPoolCache.DYNAMIC, name, signature, null, 1, 5));
+		assertEquals(-6, cache.putIfAbsent(ConstantPoolCache.DYNAMIC, name, signature, null, 2, 6));
+		assertEquals(3, cache.putIfAbsent(ConstantPoolCache.FIELD_OR_METHOD, type, name, signature, 0, 7));
+		assertEquals(5, cache.putIfAbsent(ConstantPoolCache.DYNAMIC, name, signature, null, 1, 7));
+
+		assertEquals(-7, cache.putIfAbsent(ConstantPoolCache.DOUBLE, Double.doubleToLongBits(0.0), 7));
+		assertEquals(-9, cache.putIfAbsent(ConstantPoolCache.DOUBLE, Double.doubleToLongBits(-0.0), 9));
+		assertEquals(-11, cache.putIfAbsent(ConstantPoolCache.LONG, 0L, 11));
+		assertEquals(7, cache.putIfAbsent(ConstantPoolCache.DOUBLE, Double.doubleToLongBits(0.0), 13));
+		assertEquals(11, cache.putIfAbsent(ConstantPoolCache.LONG, 0L, 13));
+		assertEquals(9, cache.size());
+
+		assertEquals("foo", String.valueOf(cache.keyFor(ConstantPoolCache.UTF8, 1)));
+		assertNull(cache.keyFor(ConstantPoolCache.UTF8, 2));
+	}
+
+	public void testRemove() {
+		Random random = new Random(4711);
+		ConstantPoolCache cache = new ConstantPoolCache();
+		Map<String, Integer> expected = new HashMap<>();
+		int nextValue = 1;
+		for (int i = 0; i < 20000; i++) {
+			String key = "k" + random.nextInt(600);
+			if (random.nextInt(3) == 0) {
+				cache.remove(ConstantPoolCache.UTF8, key.toCharArray());
+				expected.remove(key);
+			} else {
+				Integer value = expected.get(key);
+				int index = cache.putIfAbsent(ConstantPoolCache.UTF8, key.toCharArray(), nextValue);
+				if (value == null) {
+					assertEquals("Wrong index for " + key, -nextValue, index);
+					expected.put(key, nextValue++);
+				} else {
+					assertEquals("Wrong index for " + key, value.intValue(), index);
+				}
+			}
+			assertEquals(expected.size(), cache.size());
+		}
+		for (int i = 0; i < 600; i++) {
+			Integer value = expected.get("k" + i);
+			assertEquals("Wrong index for k" + i, value == null ? -1 : value.intValue(),
+					cache.get(ConstantPoolCache.UTF8, ("k" + i).toCharArray()));
+		}
+	}
+
+	public void testClear() {
+		ConstantPoolCache cache = new ConstantPoolCache();
+		for (int i = 1; i <= 1000; i++)
+			cache.putIfAbsent(ConstantPoolCache.INTEGER, i, i);
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(-1, cache.get(ConstantPoolCache.UTF8, "foo".toCharArray()));
+		for (int i = 1; i <= 1000; i++)
+			assertEquals(-(i + 1), cache.putIfAbsent(ConstantPoolCache.INTEGER, i, i + 1));
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemSeverities;
+
+/**
+ * Checks that the problems of a {@link DefaultProblemFactory} bind their message when it is first asked for, to the
+ * same text as the factory binds it eagerly.
+ */
+public class DefaultProblemFactoryTest extends TestCase {
+
+	private DefaultProblemFactory factory;
+
+	public DefaultProblemFactoryTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.factory = new DefaultProblemFactory(Locale.getDefault());
+	}
+
+	private static String boundMessage(CategorizedProblem problem) throws ReflectiveOperationException {
+		Field message = DefaultProblem.class.getDeclaredField("message");
+		message.setAccessible(true);
+		return (String) message.get(problem);
+	}
+
+	private CategorizedProblem createProblem(int id, String[] arguments) {
+		return this.factory.createProblem("X.java".toCharArray(), id, arguments, arguments, ProblemSeverities.Error,
+				0, 0, 1, 1);
+	}
+
+	public void testFirstUse() throws ReflectiveOperationException {
+		CategorizedProblem problem = createProblem(IProblem.UndefinedType, new String[] { "Foo" });
+		assertNull("Message bound before use", boundMessage(problem));
+		String message = problem.getMessage();
+		assertEquals("Unexpected message", "Foo cannot be resolved to a type", message);
+		assertEquals("Unexpected message", this.factory.getLocalizedMessage(IProblem.UndefinedType, new String[] { "Foo" }), message);
+		assertSame("Message bound twice", message, problem.getMessage());
+	}
+
+	public void testJavadoc() {
+		CategorizedProblem problem = createProblem(IProblem.JavadocUndefinedType, new String[] { "Foo" });
+		assertEquals("Unexpected message", "Javadoc: Foo cannot be resolved to a type", problem.getMessage());
+	}
+
+	public void testElaboration() {
+		int elaborationId = IProblem.ForbiddenReference << 8 | 2; // type restricted on a required library
+		String[] messageArguments = { "lib.jar", "X" };
+		CategorizedProblem problem = this.factory.createProblem("X.java".toCharArray(), IProblem.ForbiddenReference,
+				new String[] { "p.X" }, elaborationId, messageArguments, ProblemSeverities.Error, 0, 0, 1, 1);
+		assertEquals("Unexpected message",
+				"Access restriction: The type 'X' is not accessible (restriction on required library 'lib.jar')",
+				problem.getMessage());
+		assertEquals("Unexpected message",
+				this.factory.getLocalizedMessage(IProblem.ForbiddenReference, elaborationId, messageArguments),
+				problem.getMessage());
+		assertEquals("Unexpected arguments", "p.X", problem.getArguments()[0]);
+	}
+
+	public void testMissingArgument() {
+		CategorizedProblem problem = createProblem(IProblem.UndefinedType, new String[0]);
+		assertEquals("Unexpected message",
+				"Cannot bind message for problem (id: " + (IProblem.UndefinedType & IProblem.IgnoreCategoriesMask)
+						+ ") \"{0} cannot be resolved to a type\" with arguments: {}",
+				problem.getMessage());
+	}
+
+	// the warnings of a compilation are not bound until asked for, and still bind correctly once the compilation is
+	// over (the messages of errors are bound to generate the code of the problem methods)
+	public void testCompilation() throws ReflectiveOperationException {
+		FileSystem nameEnvironment = new FileSystem(Util.getJavaClassLibs(), new String[0], null);
+		List<CompilationResult> results = new ArrayList<>();
+		Compiler compiler = new Compiler(nameEnvironment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				new CompilerOptions(), results::add, this.factory);
+		String source =
+			"public class X {\n" +
+			"	@SuppressWarnings(\"unused\")\n" +
+			"	private int unused;\n" +
+			"	private int unread;\n" +
+			"	void f() {\n" +
+			"		int local = 0;\n" +
+			"	}\n" +
+			"}\n";
+		try {
+			compiler.compile(new ICompilationUnit[] { new CompilationUnit(source.toCharArray(), "X.java", null) });
+		} finally {
+			nameEnvironment.cleanup();
+		}
+		assertEquals("Unexpected results", 1, results.size());
+		CategorizedProblem[] problems = results.get(0).getAllProblems();
+		assertEquals("Unexpected problems", 2, problems.length);
+		for (CategorizedProblem problem : problems)
+			assertNull("Message bound before use", boundMessage(problem));
+		assertEquals("Unexpected message", "The value of the field X.unread is not used", problems[0].getMessage());
+		assertEquals("Unexpected message", "The value of the local variable local is not used", problems[1].getMessage());
+	}
+}
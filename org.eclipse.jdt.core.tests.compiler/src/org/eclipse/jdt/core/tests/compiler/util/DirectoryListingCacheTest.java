@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.util.DirectoryListingCache;
+
+public class DirectoryListingCacheTest extends TestCase {
+
+	private Path directory;
+	private DirectoryListingCache cache;
+
+	public DirectoryListingCacheTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.directory = Files.createTempDirectory("directoryListing");
+		this.cache = new DirectoryListingCache(DirectoryListingCache.RACY_INTERVAL);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			files.sorted((p1, p2) -> p2.compareTo(p1)).forEach(p -> p.toFile().delete());
+		}
+		super.tearDown();
+	}
+
+	private void age(Path path) throws IOException {
+		Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() - 10 * DirectoryListingCache.RACY_INTERVAL));
+	}
+
+	private static String sorted(String[] names) {
+		String[] copy = names.clone();
+		Arrays.sort(copy);
+		return Arrays.toString(copy);
+	}
+
+	public void testReuse() throws IOException {
+		Files.createFile(this.directory.resolve("A.class"));
+		Files.createDirectory(this.directory.resolve("p"));
+		age(this.directory);
+		File dir = this.directory.toFile();
+		String[] names = this.cache.list(dir);
+		assertEquals("Wrong listing", "[A.class, p]", sorted(names));
+		assertSame("Listing of unchanged directory must be reused", names, this.cache.list(dir));
+	}
+
+	public void testChange() throws IOException {
+		Files.createFile(this.directory.resolve("A.class"));
+		age(this.directory);
+		File dir = this.directory.toFile();
+		this.cache.list(dir);
+
+		Files.createFile(this.directory.resolve("B.class"));
+		assertEquals("Added file must be listed", "[A.class, B.class]", sorted(this.cache.list(dir)));
+		Files.delete(this.directory.resolve("A.class"));
+		assertEquals("Removed file must not be listed", "[B.class]", sorted(this.cache.list(dir)));
+	}
+
+	public void testRecentlyModified() throws IOException {
+		Files.createFile(this.directory.resolve("A.class"));
+		Files.setLastModifiedTime(this.directory, FileTime.fromMillis(System.currentTimeMillis()));
+		File dir = this.directory.toFile();
+		String[] names = this.cache.list(dir);
+		assertNotSame("Listing of a recently modified directory must not be reused", names, this.cache.list(dir));
+
+		// a change within the resolution of the time stamp is seen
+		FileTime lastModified = Files.getLastModifiedTime(this.directory);
+		Files.createFile(this.directory.resolve("B.class"));
+		Files.setLastModifiedTime(this.directory, lastModified);
+		assertEquals("Added file must be listed", "[A.class, B.class]", sorted(this.cache.list(dir)));
+	}
+
+	public void testMissingDirectory() throws IOException {
+		Path missing = this.directory.resolve("p");
+		assertNull("Missing directory", this.cache.list(missing.toFile()));
+		Files.createDirectory(missing);
+		Files.createFile(missing.resolve("A.class"));
+		assertEquals("Created directory must be listed", "[A.class]", sorted(this.cache.list(missing.toFile())));
+	}
+}
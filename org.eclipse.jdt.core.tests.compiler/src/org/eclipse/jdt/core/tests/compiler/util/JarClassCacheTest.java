@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.util.JarClassCache;
+
+public class JarClassCacheTest extends TestCase {
+
+	private Path directory;
+
+	public JarClassCacheTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.directory = Files.createTempDirectory("jarClassCache");
+		JarClassCache.clear();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JarClassCache.clear();
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			files.sorted((p1, p2) -> p2.compareTo(p1)).forEach(p -> p.toFile().delete());
+		}
+		super.tearDown();
+	}
+
+	private static byte[] classFile(Class<?> type) throws IOException {
+		try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+			return in.readAllBytes();
+		}
+	}
+
+	private Path createJar(String name, Class<?>... types) throws IOException {
+		Path jar = this.directory.resolve(name);
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			out.closeEntry();
+			for (Class<?> type : types) {
+				out.putNextEntry(new ZipEntry(type.getName().replace('.', '/') + ".class"));
+				out.write(classFile(type));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private ClassFileReader read(Path jar, Path classDirectory, String entryName) throws IOException, ClassFormatException {
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			return JarClassCache.forJar(jar, classDirectory).read(zip, entryName);
+		}
+	}
+
+	public void testSharedReader() throws IOException, ClassFormatException {
+		Path jar = createJar("lib.jar", JarClassCacheTest.class);
+		String entryName = "org/eclipse/jdt/core/tests/compiler/util/JarClassCacheTest.class";
+		ClassFileReader reader = read(jar, null, entryName);
+		assertEquals("Wrong class", "org/eclipse/jdt/core/tests/compiler/util/JarClassCacheTest", new String(reader.getName()));
+		assertSame("Reader of unchanged jar must be shared", reader, read(jar, null, entryName));
+		assertNull("Missing entry", read(jar, null, "p/Missing.class"));
+	}
+
+	public void testStoredClasses() throws IOException, ClassFormatException {
+		Path jar = createJar("lib.jar", JarClassCacheTest.class, JarPackageIndexTest.class);
+		Path classDirectory = this.directory.resolve("classes");
+		String entryName = "org/eclipse/jdt/core/tests/compiler/util/JarPackageIndexTest.class";
+		ClassFileReader reader = read(jar, classDirectory, entryName);
+		try (Stream<Path> files = Files.list(classDirectory)) {
+			assertEquals("Class files must be stored", 1, files.count());
+		}
+
+		JarClassCache.clear(); // as seen by another VM
+		try (ZipFile zip = new ZipFile(jar.toFile())) {
+			zip.close(); // the stored class files must be used instead of the entries
+			ClassFileReader loaded = JarClassCache.forJar(jar, classDirectory).read(zip, entryName);
+			assertNotSame("Readers are not persisted", reader, loaded);
+			assertEquals("Wrong loaded class", new String(reader.getName()), new String(loaded.getName()));
+			assertEquals("Wrong loaded methods", reader.getMethods().length, loaded.getMethods().length);
+			assertNull("Missing stored entry", JarClassCache.forJar(jar, classDirectory).read(zip, "p/Missing.class"));
+		}
+	}
+
+	public void testStaleStoredClasses() throws IOException, ClassFormatException {
+		Path jar = createJar("lib.jar", JarClassCacheTest.class);
+		Path classDirectory = this.directory.resolve("classes");
+		read(jar, classDirectory, "org/eclipse/jdt/core/tests/compiler/util/JarClassCacheTest.class");
+
+		JarClassCache.clear();
+		jar = createJar("lib.jar", JarClassCacheTest.class, JarPackageIndexTest.class);
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 2000));
+		assertNotNull("Changed jar must be stored again",
+				read(jar, classDirectory, "org/eclipse/jdt/core/tests/compiler/util/JarPackageIndexTest.class"));
+	}
+
+	public void testCorruptStoredClasses() throws IOException, ClassFormatException {
+		Path jar = createJar("lib.jar", JarClassCacheTest.class);
+		Path classDirectory = this.directory.resolve("classes");
+		String entryName = "org/eclipse/jdt/core/tests/compiler/util/JarClassCacheTest.class";
+		read(jar, classDirectory, entryName);
+		Path storeFile;
+		try (Stream<Path> files = Files.list(classDirectory)) {
+			storeFile = files.findFirst().get();
+		}
+		byte[] bytes = Files.readAllBytes(storeFile);
+		try (OutputStream out = Files.newOutputStream(storeFile)) {
+			out.write(bytes, 0, bytes.length - 3);
+		}
+
+		JarClassCache.clear();
+		assertNotNull("Truncated store must be written again", read(jar, classDirectory, entryName));
+	}
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.jdt.core.tests.junit.extension.TestCase;
+import org.eclipse.jdt.internal.compiler.util.JarPackageIndex;
+
+public class JarPackageIndexTest extends TestCase {
+
+	private Path directory;
+
+	public JarPackageIndexTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.directory = Files.createTempDirectory("jarPackageIndex");
+		JarPackageIndex.clear();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		JarPackageIndex.clear();
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			files.sorted((p1, p2) -> p2.compareTo(p1)).forEach(p -> p.toFile().delete());
+		}
+		super.tearDown();
+	}
+
+	private File createJar(String name, String... entryNames) throws IOException {
+		File jar = this.directory.resolve(name).toFile();
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+			for (String entryName : entryNames) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private JarPackageIndex index(File jar, Path indexDirectory) throws IOException {
+		try (ZipFile zip = new ZipFile(jar)) {
+			return JarPackageIndex.forJar(jar, zip, indexDirectory);
+		}
+	}
+
+	private static String print(JarPackageIndex index) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(new TreeSet<>(index.packageNames())).append('\n');
+		for (String packageName : index.packagesWithEntries()) {
+			buffer.append('"').append(packageName).append("\" ").append(Arrays.toString(index.entryNames(packageName))).append('\n');
+		}
+		return buffer.toString();
+	}
+
+	public void testIndex() throws IOException {
+		File jar = createJar("lib.jar",
+				"META-INF/MANIFEST.MF", "p/q/X.class", "p/q/readme.txt", "p/r/", "p/q/Y.class", "Root.class");
+		JarPackageIndex index = index(jar, null);
+		assertEquals("Wrong index",
+				"[, META-INF, p, p/q, p/r]\n" +
+				"\"META-INF\" [MANIFEST.MF]\n" +
+				"\"p/q\" [X.class, readme.txt, Y.class]\n" +
+				"\"p/r\" []\n" +
+				"\"\" [Root.class]\n",
+				print(index));
+		assertTrue("Parent package", index.containsPackage("p"));
+		assertFalse("Unknown package", index.containsPackage("p/s"));
+		assertEquals("Entries of package without entries", 0, index.entryNames("p").length);
+		assertSame("Index of unchanged jar must be shared", index, index(jar, null));
+	}
+
+	public void testPersistedIndex() throws IOException {
+		File jar = createJar("lib.jar", "a/b/C.class", "a/D.class");
+		Path indexDirectory = this.directory.resolve("index");
+		String expected = print(index(jar, indexDirectory));
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			assertEquals("Index must be persisted", 1, files.count());
+		}
+
+		JarPackageIndex.clear(); // as seen by another VM
+		try (ZipFile zip = new ZipFile(jar)) {
+			zip.close(); // the persisted index must be used instead of the entries
+			assertEquals("Wrong loaded index", expected, print(JarPackageIndex.forJar(jar, zip, indexDirectory)));
+		}
+	}
+
+	public void testStalePersistedIndex() throws IOException {
+		File jar = createJar("lib.jar", "a/b/C.class");
+		Path indexDirectory = this.directory.resolve("index");
+		index(jar, indexDirectory);
+
+		JarPackageIndex.clear();
+		jar = createJar("lib.jar", "a/b/C.class", "x/Y.class");
+		Files.setLastModifiedTime(jar.toPath(), FileTime.fromMillis(jar.lastModified() + 2000));
+		JarPackageIndex index = index(jar, indexDirectory);
+		assertTrue("Changed jar must be indexed again", index.containsPackage("x"));
+
+		JarPackageIndex.clear();
+		assertEquals("Updated index must be persisted", print(index), print(index(jar, indexDirectory)));
+	}
+
+	public void testCorruptPersistedIndex() throws IOException {
+		File jar = createJar("lib.jar", "a/b/C.class");
+		Path indexDirectory = this.directory.resolve("index");
+		index(jar, indexDirectory);
+		Path indexFile;
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			indexFile = files.findFirst().get();
+		}
+		byte[] bytes = Files.readAllBytes(indexFile);
+		try (OutputStream out = Files.newOutputStream(indexFile)) {
+			out.write(bytes, 0, bytes.length - 3);
+		}
+
+		JarPackageIndex.clear();
+		Set<String> packageNames = index(jar, indexDirectory).packageNames();
+		assertTrue("Truncated index must be rebuilt", packageNames.contains("a/b"));
+	}
+
+	public void testEviction() throws IOException {
+		File first = createJar("lib0.jar", "a/B.class");
+		JarPackageIndex firstIndex = index(first, null);
+		JarPackageIndex lastIndex = null;
+		File last = null;
+		for (int i = 1; i <= JarPackageIndex.MAX_CACHED_INDEXES; i++) {
+			last = createJar("lib" + i + ".jar", "a/B.class");
+			lastIndex = index(last, null);
+		}
+		assertNotSame("Least recently used index must be evicted", firstIndex, index(first, null));
+		assertSame("Recently used index must be kept", lastIndex, index(last, null));
+	}
+}
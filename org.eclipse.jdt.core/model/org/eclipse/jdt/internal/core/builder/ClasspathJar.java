@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,6 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +50,9 @@ import org.eclipse.jdt.internal.compiler.env.IBinaryType;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.JarClassCache;
+import org.eclipse.jdt.internal.compiler.util.JarClassCache.JarClasses;
+import org.eclipse.jdt.internal.compiler.util.JarPackageIndex;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.util.Util;
@@ -98,14 +100,23 @@ private Set<String> getCachedPackageNames() {
 protected Set<String> readPackageNames() {
 	final Set<String> packageSet = new HashSet<>();
 	packageSet.add(""); //$NON-NLS-1$
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-		if (fileName.startsWith("META-INF/")) //$NON-NLS-1$
+	for (String packageName : packageIndex().packagesWithEntries()) {
+		if (packageName.equals("META-INF") || packageName.startsWith("META-INF/")) //$NON-NLS-1$ //$NON-NLS-2$
 			continue;
-		addToPackageSet(packageSet, fileName, false);
+		addToPackageSet(packageSet, packageName, true);
 	}
 	return packageSet;
 }
+/**
+ * Answers the package index of the opened jar, which is shared with other projects and persisted if the compiler is
+ * configured to do so.
+ */
+JarPackageIndex packageIndex() {
+	JarPackageIndex index = this.packageIndex;
+	if (index == null)
+		this.packageIndex = index = JarPackageIndex.forJar(new File(this.zipFilename), this.zipFile);
+	return index;
+}
 IModule initializeModule() {
 	IModule mod = null;
 	try (ZipFile file = new ZipFile(this.zipFilename)) {
@@ -139,6 +150,10 @@ volatile long lastModified;
 volatile long fileSize;
 /** lazy initialized **/
 private volatile Set<String> knownPackageNames;
+/** lazy initialized, reset to null in {@link #cleanup()} **/
+private volatile JarClasses jarClasses;
+/** lazy initialized, reset to null in {@link #cleanup()} **/
+private volatile JarPackageIndex packageIndex;
 // Meant for ClasspathMultiReleaseJar, not used in here
 String compliance;
 
@@ -209,6 +224,8 @@ public void cleanup() {
 	}
 	this.module = null; // TODO(SHMOD): is this safe?
 	this.knownPackageNames = null;
+	this.jarClasses = null;
+	this.packageIndex = null;
 }
 
 @Override
@@ -233,14 +250,15 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	if (!isPackage(qualifiedPackageName, moduleName)) return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
 				ClassFileReader classReader = (ClassFileReader) reader;
-				if (classReader.moduleName == null)
-					classReader.moduleName = modName;
-				else
+				if (classReader.moduleName == null) {
+					if (this.jarClasses == null) // readers of the shared cache stay untouched, the answer carries the module
+						classReader.moduleName = modName;
+				} else
 					modName = classReader.moduleName;
 				}
 			String fileNameWithoutExtension = qualifiedBinaryFileName.substring(0, qualifiedBinaryFileName.length() - SuffixConstants.SUFFIX_CLASS.length);
@@ -251,6 +269,15 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	return null;
 }
 
+private ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	JarClasses classes = this.jarClasses;
+	if (classes == null)
+		this.jarClasses = classes = JarClassCache.forJar(Path.of(this.zipFilename));
+	if (classes != null)
+		return classes.read(this.zipFile, qualifiedBinaryFileName);
+	return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+}
+
 @Override
 public IPath getProjectRelativePath() {
 	if (this.resource == null) return null;
@@ -284,11 +311,8 @@ public boolean hasCompilationUnit(String pkgName, String moduleName) {
 		// Even if knownPackageNames contained the pkg we're looking for, we still need to verify
 		// that the package in this jar actually contains at least one .class file (since
 		// knownPackageNames includes empty packages)
-		for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-			String fileName = e.nextElement().getName();
-			if (fileName.startsWith(pkgName)
-					&& fileName.toLowerCase().endsWith(SuffixConstants.SUFFIX_STRING_class)
-					&& fileName.indexOf('/', pkgName.length()+1) == -1)
+		for (String entryName : packageIndex().entryNames(pkgName)) {
+			if (entryName.toLowerCase().endsWith(SuffixConstants.SUFFIX_STRING_class))
 				return true;
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.core.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.eclipse.jdt.internal.compiler.util.CharDeduplication;
 import org.eclipse.jdt.internal.core.JavaElement;
 
 /** Utility to provide deduplication by best effort. **/
@@ -26,7 +27,6 @@ public final class DeduplicationUtil {
 
 	private static final WeakHashSet<Object> objectCache = new WeakHashSet<>();
 	private static final WeakHashSet<String> stringSymbols = new WeakHashSet<>();
-	private static final WeakHashSetOfCharArray charArraySymbols = new WeakHashSetOfCharArray();
 
 	@SuppressWarnings("unchecked")
 	public static <T> T internObject(T obj) {
@@ -35,10 +35,9 @@ public final class DeduplicationUtil {
 		}
 	}
 
+	/** shares the instances with the compiler, see {@link CharDeduplication#internShared(char[])} **/
 	public static char[] intern(char[] array) {
-		synchronized (charArraySymbols) {
-			return charArraySymbols.add(array);
-		}
+		return CharDeduplication.internShared(array);
 	}
 
 	public static String toString(char[] array) {